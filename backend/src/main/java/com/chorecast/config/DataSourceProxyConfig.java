@@ -0,0 +1,37 @@
+package com.chorecast.config;
+
+import com.chorecast.monitoring.QueryStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the connection pool in a datasource-proxy so JPA, JdbcTemplate and
+ * Flyway statements alike reach {@link QueryStatsListener}.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // Static: post-processors are created before the rest of the configuration
+    @Bean
+    static BeanPostProcessor queryStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                QueryStatsListener listener = new QueryStatsListener();
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(listener)
+                        .methodListener(listener)
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.chorecast.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns @Timed on services into service.calls timers. Every meter is
+ * exported at /actuator/prometheus; the names and tags are listed in the
+ * README and are kept stable for alerting.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // One series per household would grow without bound; households are never a tag
+    @Bean
+    public MeterFilter householdTagFilter() {
+        return MeterFilter.ignoreTags("householdId", "household");
+    }
+}
@@ -0,0 +1,15 @@
+package com.chorecast.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduled jobs run unless {@code app.scheduler.enabled} is false, e.g. in
+ * tests that drive the jobs themselves.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,19 @@
+package com.chorecast.config;
+
+import com.chorecast.controller.HouseholdVersionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final HouseholdVersionInterceptor householdVersionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(householdVersionInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -3,9 +3,11 @@ package com.chorecast.controller;
 import com.chorecast.dto.AuthResponse;
 import com.chorecast.dto.LoginRequest;
 import com.chorecast.dto.RegisterRequest;
+import com.chorecast.security.AuthenticatedUser;
 import com.chorecast.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,4 +27,9 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(authService.refreshToken(user.id()));
+    }
 }
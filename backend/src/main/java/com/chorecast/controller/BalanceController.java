@@ -1,12 +1,12 @@
 package com.chorecast.controller;
 
-import com.chorecast.model.Balance;
-import com.chorecast.model.User;
-import com.chorecast.repository.UserRepository;
+import com.chorecast.dto.BalanceResponse;
+import com.chorecast.dto.SettlementTransfer;
+import com.chorecast.security.AuthenticatedUser;
 import com.chorecast.service.BalanceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,23 +18,21 @@ import java.util.List;
 public class BalanceController {
     
     private final BalanceService balanceService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<List<Balance>> getBalances(Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(balanceService.getHouseholdBalances(user.getHouseholdId()));
+    @HouseholdVersioned
+    public ResponseEntity<List<BalanceResponse>> getBalances(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(balanceService.getHouseholdBalances(user.householdId()));
     }
 
     @GetMapping("/my-debts")
-    public ResponseEntity<List<Balance>> getMyDebts(Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(balanceService.getUserDebts(user.getId()));
+    public ResponseEntity<List<BalanceResponse>> getMyDebts(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(balanceService.getUserDebts(user.id()));
     }
 
-    private User getUserFromAuth(Authentication auth) {
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    @GetMapping("/simplified")
+    @HouseholdVersioned
+    public ResponseEntity<List<SettlementTransfer>> getSimplifiedDebts(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(balanceService.getSimplifiedDebts(user.householdId()));
     }
 }
@@ -1,13 +1,14 @@
 package com.chorecast.controller;
 
+import com.chorecast.dto.ChoreFilter;
 import com.chorecast.dto.ChoreRequest;
 import com.chorecast.dto.ChoreResponse;
-import com.chorecast.model.User;
-import com.chorecast.repository.UserRepository;
+import com.chorecast.dto.PageResponse;
+import com.chorecast.security.AuthenticatedUser;
 import com.chorecast.service.ChoreService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,28 +21,31 @@ import java.util.UUID;
 public class ChoreController {
     
     private final ChoreService choreService;
-    private final UserRepository userRepository;
 
     @PostMapping
-    public ResponseEntity<ChoreResponse> createChore(@RequestBody ChoreRequest request, Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(choreService.createChore(request, user.getHouseholdId()));
+    public ResponseEntity<ChoreResponse> createChore(@RequestBody ChoreRequest request,
+                                                     @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(choreService.createChore(request, user.householdId()));
     }
 
     @GetMapping
-    public ResponseEntity<List<ChoreResponse>> getChores(Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(choreService.getHouseholdChores(user.getHouseholdId()));
+    @HouseholdVersioned
+    public ResponseEntity<List<ChoreResponse>> getChores(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(choreService.getHouseholdChores(user.householdId()));
     }
 
-    @PutMapping("/{id}/complete")
-    public ResponseEntity<ChoreResponse> completeChore(@PathVariable UUID id) {
-        return ResponseEntity.ok(choreService.completeChore(id));
+    @GetMapping("/page")
+    @HouseholdVersioned
+    public ResponseEntity<PageResponse<ChoreResponse>> getChorePage(ChoreFilter filter,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "50") int limit,
+                                                                   @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(choreService.getHouseholdChorePage(user.householdId(), filter, cursor, limit));
     }
 
-    private User getUserFromAuth(Authentication auth) {
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    @PutMapping("/{id}/complete")
+    public ResponseEntity<ChoreResponse> completeChore(@PathVariable UUID id,
+                                                       @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(choreService.completeChore(id, user.householdId()));
     }
 }
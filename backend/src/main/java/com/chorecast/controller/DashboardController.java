@@ -0,0 +1,28 @@
+package com.chorecast.controller;
+
+import com.chorecast.dto.DashboardResponse;
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@CrossOrigin
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // ?sections=chores,balances limits the response; all sections by default
+    @GetMapping
+    @HouseholdVersioned
+    public ResponseEntity<DashboardResponse> getDashboard(@RequestParam(required = false) List<String> sections,
+                                                          @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(dashboardService.getDashboard(user, DashboardService.Section.parse(sections)));
+    }
+}
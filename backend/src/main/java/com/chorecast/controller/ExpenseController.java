@@ -1,13 +1,15 @@
 package com.chorecast.controller;
 
+import com.chorecast.dto.ExpenseFilter;
 import com.chorecast.dto.ExpenseRequest;
 import com.chorecast.dto.ExpenseResponse;
-import com.chorecast.model.User;
-import com.chorecast.repository.UserRepository;
+import com.chorecast.dto.ExpenseTotalResponse;
+import com.chorecast.dto.PageResponse;
+import com.chorecast.security.AuthenticatedUser;
 import com.chorecast.service.ExpenseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,29 +22,60 @@ import java.util.UUID;
 public class ExpenseController {
     
     private final ExpenseService expenseService;
-    private final UserRepository userRepository;
 
     @PostMapping
-    public ResponseEntity<ExpenseResponse> createExpense(@RequestBody ExpenseRequest request, Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(expenseService.createExpense(request, user.getHouseholdId()));
+    public ResponseEntity<ExpenseResponse> createExpense(@RequestBody ExpenseRequest request,
+                                                         @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(expenseService.createExpense(request, user.householdId()));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ExpenseResponse>> createExpenses(@RequestBody List<ExpenseRequest> requests,
+                                                                @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(expenseService.createExpenses(requests, user.householdId()));
     }
 
     @GetMapping
-    public ResponseEntity<List<ExpenseResponse>> getExpenses(Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(expenseService.getHouseholdExpenses(user.getHouseholdId()));
+    @HouseholdVersioned
+    public ResponseEntity<List<ExpenseResponse>> getExpenses(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(expenseService.getHouseholdExpenses(user.householdId()));
+    }
+
+    @GetMapping("/page")
+    @HouseholdVersioned
+    public ResponseEntity<PageResponse<ExpenseResponse>> getExpensePage(ExpenseFilter filter,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "50") int limit,
+                                                                       @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(expenseService.getHouseholdExpensePage(user.householdId(), filter, cursor, limit));
+    }
+
+    // Per user, so not @HouseholdVersioned: the household ETag would match across members
+    @GetMapping("/mine")
+    public ResponseEntity<PageResponse<ExpenseResponse>> getMyExpenses(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "50") int limit,
+                                                                      @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(expenseService.getUserExpensePage(user.householdId(), user.id(), cursor, limit));
+    }
+
+    @GetMapping("/totals")
+    @HouseholdVersioned
+    public ResponseEntity<List<ExpenseTotalResponse>> getTotals(@RequestParam(required = false) Boolean settled,
+                                                                @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(expenseService.getHouseholdTotals(user.householdId(), settled));
     }
 
     @PutMapping("/{id}/settle")
-    public ResponseEntity<Void> settleExpense(@PathVariable UUID id) {
-        expenseService.settleExpense(id);
+    public ResponseEntity<Void> settleExpense(@PathVariable UUID id,
+                                              @AuthenticationPrincipal AuthenticatedUser user) {
+        expenseService.settleExpense(id, user.householdId());
         return ResponseEntity.ok().build();
     }
 
-    private User getUserFromAuth(Authentication auth) {
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    @PutMapping("/settle")
+    public ResponseEntity<Void> settleExpenses(@RequestBody List<UUID> ids,
+                                               @AuthenticationPrincipal AuthenticatedUser user) {
+        expenseService.settleExpenses(ids, user.householdId());
+        return ResponseEntity.ok().build();
     }
 }
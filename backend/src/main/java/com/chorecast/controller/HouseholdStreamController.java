@@ -0,0 +1,41 @@
+package com.chorecast.controller;
+
+import com.chorecast.dto.StreamTicketResponse;
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.security.JwtTokenProvider;
+import com.chorecast.service.HouseholdStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/households")
+@RequiredArgsConstructor
+@CrossOrigin
+public class HouseholdStreamController {
+
+    private final HouseholdStreamService householdStreamService;
+    private final JwtTokenProvider tokenProvider;
+
+    // EventSource cannot set headers; it passes this ticket as ?ticket= instead of the long-lived token
+    @PostMapping("/stream/ticket")
+    public ResponseEntity<StreamTicketResponse> streamTicket(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user.householdId() == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(new StreamTicketResponse(tokenProvider.generateStreamTicket(user),
+                tokenProvider.getStreamTicketExpiration()));
+    }
+
+    // 204 tells EventSource not to reconnect: a user without a household has nothing to follow
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user.householdId() == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(householdStreamService.subscribe(user.householdId()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.chorecast.controller;
+
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.service.HouseholdVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class HouseholdVersionInterceptor implements HandlerInterceptor {
+
+    private final HouseholdVersions householdVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || !method.hasMethodAnnotation(HouseholdVersioned.class)) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return true;
+        }
+        String etag = householdVersions.etag(user.householdId());
+        if (etag == null) {
+            return true;
+        }
+
+        // Let browsers keep the body but revalidate every time (Spring Security defaults to no-store)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        // Sets the ETag header, and the 304 status when If-None-Match matches
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            householdVersions.recordNotModified();
+            return false;
+        }
+        householdVersions.recordModified();
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.chorecast.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET whose response depends only on the caller's household data.
+ * {@link HouseholdVersionInterceptor} tags it with the household version and
+ * answers a matching If-None-Match with 304 before the handler runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HouseholdVersioned {
+}
@@ -0,0 +1,59 @@
+package com.chorecast.controller;
+
+import com.chorecast.dto.ImportResponse;
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Spreadsheet onboarding: the body is streamed straight into the import, one
+ * row at a time, instead of being bound to a request object.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@CrossOrigin
+public class ImportController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/expenses", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importExpenses(InputStream body,
+                                                         @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                         @AuthenticationPrincipal AuthenticatedUser user) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return ResponseEntity.ok(importService.importExpenses(reader(body, mediaType), format(mediaType),
+                user.householdId()));
+    }
+
+    @PostMapping(value = "/chores", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importChores(InputStream body,
+                                                       @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       @AuthenticationPrincipal AuthenticatedUser user) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return ResponseEntity.ok(importService.importChores(reader(body, mediaType), format(mediaType),
+                user.householdId()));
+    }
+
+    private static ImportService.Format format(MediaType mediaType) {
+        return TEXT_CSV.isCompatibleWith(mediaType) ? ImportService.Format.CSV : ImportService.Format.NDJSON;
+    }
+
+    // UTF-8 unless the Content-Type names a charset
+    private static Reader reader(InputStream body, MediaType mediaType) {
+        return new InputStreamReader(body,
+                mediaType.getCharset() == null ? StandardCharsets.UTF_8 : mediaType.getCharset());
+    }
+}
@@ -0,0 +1,41 @@
+package com.chorecast.controller;
+
+import com.chorecast.dto.SyncAckRequest;
+import com.chorecast.dto.SyncResponse;
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@CrossOrigin
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // Without ?since= the response asks for a full reload and carries the sequence to sync from afterwards.
+    // A user without a household gets 204: there is nothing to sync.
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) Long since,
+                                             @RequestParam(defaultValue = "500") int limit,
+                                             @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user.householdId() == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(syncService.sync(user, since, limit));
+    }
+
+    @PostMapping("/ack")
+    public ResponseEntity<Void> acknowledge(@RequestBody SyncAckRequest request,
+                                            @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user.householdId() == null) {
+            return ResponseEntity.noContent().build();
+        }
+        syncService.acknowledge(user, request.getSeq());
+        return ResponseEntity.ok().build();
+    }
+}
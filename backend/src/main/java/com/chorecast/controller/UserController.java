@@ -2,10 +2,11 @@ package com.chorecast.controller;
 
 import com.chorecast.dto.UserDTO;
 import com.chorecast.model.User;
-import com.chorecast.repository.UserRepository;
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,38 +18,23 @@ import java.util.stream.Collectors;
 @CrossOrigin
 public class UserController {
     
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @GetMapping("/household")
-    public ResponseEntity<List<UserDTO>> getHouseholdMembers(Authentication auth) {
-        User currentUser = getUserFromAuth(auth);
-        
-        List<UserDTO> householdMembers = userRepository.findByHouseholdId(currentUser.getHouseholdId())
+    @HouseholdVersioned
+    public ResponseEntity<List<UserDTO>> getHouseholdMembers(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        List<UserDTO> householdMembers = userCache.findByHouseholdId(currentUser.householdId())
                 .stream()
-                .map(this::convertToDTO)
+                .map(UserDTO::from)
                 .collect(Collectors.toList());
         
         return ResponseEntity.ok(householdMembers);
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserDTO> getCurrentUser(Authentication auth) {
-        User user = getUserFromAuth(auth);
-        return ResponseEntity.ok(convertToDTO(user));
-    }
-
-    private User getUserFromAuth(Authentication auth) {
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
+    public ResponseEntity<UserDTO> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        User user = userCache.findById(currentUser.id())
                 .orElseThrow(() -> new RuntimeException("User not found"));
-    }
-
-    private UserDTO convertToDTO(User user) {
-        UserDTO dto = new UserDTO();
-        dto.setId(user.getId());
-        dto.setName(user.getName());
-        dto.setEmail(user.getEmail());
-        dto.setHouseholdId(user.getHouseholdId());
-        return dto;
+        return ResponseEntity.ok(UserDTO.from(user));
     }
 }
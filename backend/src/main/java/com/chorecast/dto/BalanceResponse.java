@@ -0,0 +1,20 @@
+package com.chorecast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// What userFrom currently owes userTo, read straight from the balances query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceResponse {
+    private UUID userFrom;
+    private UUID userTo;
+    private BigDecimal amount;
+    private LocalDateTime lastUpdated;
+}
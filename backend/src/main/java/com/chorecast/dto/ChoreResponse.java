@@ -1,12 +1,17 @@
 package com.chorecast.dto;
 
 import com.chorecast.model.Chore;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Field order is the constructor used by the repository projections
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ChoreResponse {
     private UUID id;
     private String name;
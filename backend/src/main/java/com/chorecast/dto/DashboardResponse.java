@@ -0,0 +1,16 @@
+package com.chorecast.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+// Sections that were not requested stay null and are left out of the JSON
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+    private List<ChoreResponse> chores;
+    private List<ExpenseResponse> expenses;
+    private List<BalanceResponse> balances;
+    private List<UserDTO> users;
+}
@@ -0,0 +1,10 @@
+package com.chorecast.dto;
+
+import lombok.Data;
+import java.util.UUID;
+
+@Data
+public class ExpenseFilter {
+    private Boolean settled;
+    private UUID payerId;
+}
@@ -12,4 +12,12 @@ public class ExpenseRequest {
     private BigDecimal amount;
     private UUID payerId;
     private List<UUID> participants;
-}
\ No newline at end of file
+    // EQUAL when absent
+    private SplitType splitType;
+    // One per participant, in the same order; unused by EQUAL
+    private List<BigDecimal> splitValues;
+
+    public enum SplitType {
+        EQUAL, WEIGHTS, PERCENTAGES, EXACT
+    }
+}
@@ -1,13 +1,18 @@
 package com.chorecast.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+// Field order is the constructor used by the repository projections
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ExpenseResponse {
     private UUID id;
     private String description;
@@ -0,0 +1,25 @@
+package com.chorecast.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Per-member sums over the household's expenses; net is what the member is owed overall
+@Data
+@NoArgsConstructor
+public class ExpenseTotalResponse {
+    private UUID userId;
+    private BigDecimal paid;
+    private BigDecimal share;
+    private BigDecimal net;
+
+    // Used by the repository's constructor expression over the cents columns
+    public ExpenseTotalResponse(UUID userId, Long paidCents, Long shareCents) {
+        this.userId = userId;
+        this.paid = BigDecimal.valueOf(paidCents, 2);
+        this.share = BigDecimal.valueOf(shareCents, 2);
+        this.net = BigDecimal.valueOf(paidCents - shareCents, 2);
+    }
+}
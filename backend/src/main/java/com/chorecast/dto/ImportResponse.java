@@ -0,0 +1,29 @@
+package com.chorecast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Errors point at the line a row starts on; only
+ * the first ones are listed, and errorsTruncated is set when more rows failed.
+ */
+@Data
+public class ImportResponse {
+    private long rows;
+    private long imported;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
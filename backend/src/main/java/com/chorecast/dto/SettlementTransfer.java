@@ -0,0 +1,17 @@
+package com.chorecast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementTransfer {
+    private UUID from;
+    private UUID to;
+    private BigDecimal amount;
+}
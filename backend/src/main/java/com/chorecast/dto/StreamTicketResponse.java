@@ -0,0 +1,15 @@
+package com.chorecast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Short-lived credential for opening the household change stream, which
+ * browsers can only authenticate through the URL.
+ */
+@Data
+@AllArgsConstructor
+public class StreamTicketResponse {
+    private String ticket;
+    private long expiresInMillis;
+}
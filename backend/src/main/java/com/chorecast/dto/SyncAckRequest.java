@@ -0,0 +1,8 @@
+package com.chorecast.dto;
+
+import lombok.Data;
+
+@Data
+public class SyncAckRequest {
+    private Long seq;
+}
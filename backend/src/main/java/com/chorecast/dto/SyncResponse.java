@@ -0,0 +1,25 @@
+package com.chorecast.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Changes after the client's sequence, up to {@code seq}. With reset set the
+ * client must reload everything and sync from {@code seq}; balances are only
+ * present when they changed.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncResponse {
+    private long seq;
+    private boolean reset;
+    private boolean hasMore;
+    private List<ChoreResponse> chores;
+    private List<ExpenseResponse> expenses;
+    private List<UUID> deletedChoreIds;
+    private List<UUID> deletedExpenseIds;
+    private List<BalanceResponse> balances;
+}
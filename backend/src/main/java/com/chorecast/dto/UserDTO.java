@@ -1,5 +1,6 @@
 package com.chorecast.dto;
 
+import com.chorecast.model.User;
 import lombok.Data;
 import java.util.UUID;
 
@@ -9,4 +10,13 @@ public class UserDTO {
     private String name;
     private String email;
     private UUID householdId;
+
+    public static UserDTO from(User user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setHouseholdId(user.getHouseholdId());
+        return dto;
+    }
 }
@@ -0,0 +1,15 @@
+package com.chorecast.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by the services after they change a household's data. Listeners
+ * that must not observe uncommitted state use {@code @TransactionalEventListener}.
+ */
+public record HouseholdChangeEvent(UUID householdId, Type type, List<UUID> entityIds) {
+
+    public enum Type {
+        EXPENSE_CREATED, EXPENSE_SETTLED, CHORE_CREATED, CHORE_COMPLETED, CHORE_RESET
+    }
+}
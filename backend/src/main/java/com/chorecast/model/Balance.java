@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "balances")
+@Table(name = "balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_balances_household_pair", columnNames = {"household_id", "user_from", "user_to"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
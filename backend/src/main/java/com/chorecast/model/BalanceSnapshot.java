@@ -0,0 +1,28 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Watermark of the last ledger entry folded into a household's balances rows.
+ */
+@Entity
+@Table(name = "balance_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceSnapshot {
+    @Id
+    @Column(name = "household_id")
+    private UUID householdId;
+    
+    @Column(name = "ledger_seq", nullable = false)
+    private Long ledgerSeq;
+    
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
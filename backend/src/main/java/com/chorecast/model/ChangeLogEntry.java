@@ -0,0 +1,56 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One change to a household's synced data, numbered by a per-household
+ * sequence. A BALANCE entry has no entity id: it marks the whole household's
+ * balances as changed.
+ */
+@Entity
+@Table(name = "change_log", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_change_log_household_seq", columnNames = {"household_id", "seq"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "household_id", nullable = false)
+    private UUID householdId;
+    
+    @Column(nullable = false)
+    private Long seq;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private EntityType entityType;
+    
+    @Column(name = "entity_id")
+    private UUID entityId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    public enum EntityType {
+        CHORE, EXPENSE, BALANCE
+    }
+    
+    public enum Operation {
+        UPSERT, DELETE
+    }
+}
@@ -3,12 +3,17 @@ package com.chorecast.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "chores")
+@Table(name = "chores", indexes = {
+        @Index(name = "idx_chores_household_next_due", columnList = "household_id, next_due, id"),
+        @Index(name = "idx_chores_next_due", columnList = "next_due"),
+        @Index(name = "idx_chores_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,6 +52,10 @@ public class Chore {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     public enum Frequency {
         DAILY, WEEKLY, MONTHLY, CUSTOM
     }
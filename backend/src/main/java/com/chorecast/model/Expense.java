@@ -12,7 +12,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "expenses")
+@Table(name = "expenses", indexes = {
+        @Index(name = "idx_expenses_household_created", columnList = "household_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
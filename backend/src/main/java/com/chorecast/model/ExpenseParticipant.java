@@ -0,0 +1,60 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One user's part in an expense: their share of it and what they paid. The
+ * payer has a row even when not splitting the expense. Kept alongside
+ * {@code expenses.participants}, which still orders the participants in the
+ * API, so per-user queries can use an index instead of reading every expense.
+ * household_id and created_at are copied from the expense for those indexes.
+ */
+@Entity
+@Table(name = "expense_participants", indexes = {
+        @Index(name = "idx_expense_participants_user_created",
+                columnList = "user_id, household_id, created_at, expense_id"),
+        @Index(name = "idx_expense_participants_household_user", columnList = "household_id, user_id")
+})
+@IdClass(ExpenseParticipant.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExpenseParticipant {
+    @Id
+    @Column(name = "expense_id")
+    private UUID expenseId;
+    
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+    
+    @Column(name = "household_id", nullable = false)
+    private UUID householdId;
+    
+    @Column(name = "share_cents", nullable = false)
+    private Long shareCents;
+    
+    @Column(name = "paid_cents", nullable = false)
+    private Long paidCents;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private UUID expenseId;
+        private UUID userId;
+    }
+}
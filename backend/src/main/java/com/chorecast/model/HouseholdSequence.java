@@ -0,0 +1,28 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-household change_log counter. compactedThrough is the highest sequence
+ * already deleted because every member acknowledged it.
+ */
+@Entity
+@Table(name = "household_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HouseholdSequence {
+    @Id
+    @Column(name = "household_id")
+    private UUID householdId;
+    
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+    
+    @Column(name = "compacted_through", nullable = false)
+    private Long compactedThrough;
+}
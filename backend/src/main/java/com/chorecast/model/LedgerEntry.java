@@ -0,0 +1,57 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable record of one debt movement. Rows are only ever inserted; the
+ * {@code balances} table is a projection of their running sums.
+ */
+@Entity
+@Table(name = "ledger_entries", indexes = {
+        @Index(name = "idx_ledger_household_seq", columnList = "household_id, id"),
+        @Index(name = "idx_ledger_user_from_seq", columnList = "user_from, id"),
+        @Index(name = "idx_ledger_user_to_seq", columnList = "user_to, id"),
+        @Index(name = "idx_ledger_expense", columnList = "expense_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "household_id", nullable = false)
+    private UUID householdId;
+    
+    @Column(name = "expense_id")
+    private UUID expenseId;
+    
+    @Column(name = "user_from", nullable = false)
+    private UUID userFrom;
+    
+    @Column(name = "user_to", nullable = false)
+    private UUID userTo;
+    
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private EntryType entryType;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    public enum EntryType {
+        CHARGE, REVERSAL
+    }
+}
@@ -7,7 +7,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "reminders")
+@Table(name = "reminders", indexes = {
+        @Index(name = "idx_reminders_chore_occurrence", columnList = "chore_id, occurrence_due")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,6 +22,13 @@ public class Reminder {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
     
+    @Column(name = "chore_id")
+    private UUID choreId;
+    
+    // next_due of the chore occurrence this reminder is for
+    @Column(name = "occurrence_due")
+    private LocalDateTime occurrenceDue;
+    
     @Column(columnDefinition = "TEXT", nullable = false)
     private String message;
     
@@ -33,7 +42,27 @@ public class Reminder {
     @Column(nullable = false)
     private Boolean sent = false;
     
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "varchar(16) default 'PENDING' not null")
+    private DeliveryStatus status = DeliveryStatus.PENDING;
+    
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "integer default 0 not null")
+    private Integer attempts = 0;
+    
+    // Earliest time the reminder may be claimed again; doubles as the delivery lease
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
     public enum ReminderType {
         CHORE, EXPENSE
     }
+    
+    public enum DeliveryStatus {
+        PENDING, SENT, DEAD
+    }
 }
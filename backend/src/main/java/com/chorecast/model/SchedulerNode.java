@@ -0,0 +1,29 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A running backend instance. A node whose heartbeat is older than the lease
+ * is treated as dead and its shards move to the remaining nodes.
+ */
+@Entity
+@Table(name = "scheduler_nodes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerNode {
+    @Id
+    @Column(name = "node_id")
+    private UUID nodeId;
+    
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+    
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+}
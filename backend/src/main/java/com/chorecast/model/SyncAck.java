@@ -0,0 +1,38 @@
+package com.chorecast.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Highest change_log sequence a member has confirmed applying.
+ */
+@Entity
+@Table(name = "sync_acks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sync_acks_household_user", columnNames = {"household_id", "user_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncAck {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Column(name = "household_id", nullable = false)
+    private UUID householdId;
+    
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+    
+    @Column(name = "acked_seq", nullable = false)
+    private Long ackedSeq;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
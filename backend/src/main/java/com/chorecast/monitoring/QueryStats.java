@@ -0,0 +1,101 @@
+package com.chorecast.monitoring;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statements, rows and database time of one unit of work on the current
+ * thread: an HTTP request, a scheduled job or a test. Scopes nest, and a
+ * statement counts towards every scope open on its thread. Work handed to
+ * other threads is counted only when wrapped with {@link #propagate}.
+ */
+public final class QueryStats implements AutoCloseable {
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    public static QueryStats open() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // Innermost open scope of this thread, or null
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes the task count towards the scopes open on the calling thread,
+     * wherever it runs. Scopes opened by the task itself stay on its thread.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        QueryStats captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    static void recordStatement(long nanos, long rows) {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements.increment();
+            stats.rows.add(rows);
+            stats.nanos.add(nanos);
+        }
+    }
+
+    static void recordRow() {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.rows.increment();
+        }
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    // Rows read through result sets plus rows reported by updates
+    public long rows() {
+        return rows.sum();
+    }
+
+    // Summed over threads, so parallel statements can add up to more than the elapsed time
+    public Duration time() {
+        return Duration.ofNanos(nanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + time().toMillis() + " ms";
+    }
+}
@@ -0,0 +1,67 @@
+package com.chorecast.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures the statements of each request, authentication included. The
+ * totals go to {@link QueryStatsMetrics} and, with
+ * {@code app.query-stats.response-headers} (on in the dev profile), into
+ * X-Query-* response headers. Responses with a body get the headers from
+ * {@link QueryStatsHeaderAdvice} before it is written; the rest get them here.
+ * For streamed responses only the initial dispatch is counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+    static final String COUNT_HEADER = "X-Query-Count";
+    static final String ROWS_HEADER = "X-Query-Rows";
+    static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private final QueryStatsMetrics metrics;
+    private final boolean responseHeaders;
+
+    public QueryStatsFilter(QueryStatsMetrics metrics,
+                            @Value("${app.query-stats.response-headers:false}") boolean responseHeaders) {
+        this.metrics = metrics;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.close();
+            if (responseHeaders && !response.isCommitted()) {
+                writeHeaders(stats, response::setHeader);
+            }
+            metrics.record("http", name(request), stats);
+        }
+    }
+
+    static void writeHeaders(QueryStats stats, BiConsumer<String, String> headers) {
+        headers.accept(COUNT_HEADER, Long.toString(stats.statements()));
+        headers.accept(ROWS_HEADER, Long.toString(stats.rows()));
+        headers.accept(TIME_HEADER, Long.toString(stats.time().toMillis()));
+    }
+
+    // The route template, so ids in the path do not become separate series
+    private static String name(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+}
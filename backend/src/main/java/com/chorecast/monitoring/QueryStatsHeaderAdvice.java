@@ -0,0 +1,36 @@
+package com.chorecast.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the X-Query-* headers just before a response body is written, when the
+ * handler's statements are done but the headers can still change.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.query-stats.response-headers", havingValue = "true")
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        // No scope on async dispatches, whose headers have been sent already
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            QueryStatsFilter.writeHeaders(stats, response.getHeaders()::set);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,66 @@
+package com.chorecast.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Feeds {@link QueryStats} from the datasource proxy. A batch counts as one
+ * statement, since it is one round trip. Nothing is measured on threads
+ * without an open scope.
+ */
+public class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+    private static final String STARTED_AT = QueryStatsListener.class.getName() + ".startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryStats.current() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt != null) {
+            QueryStats.recordStatement(System.nanoTime() - startedAt, updateCount(execInfo.getResult()));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // Rows read are counted as the caller steps through the result set
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if ("next".equals(executionContext.getMethod().getName())
+                && executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            QueryStats.recordRow();
+        }
+    }
+
+    // Negative counts are SUCCESS_NO_INFO and EXECUTE_FAILED
+    private static long updateCount(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(0, count.longValue());
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(0, count);
+            }
+        }
+        return rows;
+    }
+}
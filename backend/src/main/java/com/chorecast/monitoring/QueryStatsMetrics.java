@@ -0,0 +1,43 @@
+package com.chorecast.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the {@link QueryStats} of finished requests and jobs as
+ * db.statements, db.rows and db.time, tagged with the kind of work
+ * ({@code http} or {@code job}) and its name.
+ */
+@Component
+public class QueryStatsMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String kind, String name, QueryStats stats) {
+        DistributionSummary.builder("db.statements")
+                .description("SQL statements executed per request or job")
+                .baseUnit("statements")
+                .tag("kind", kind)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("db.rows")
+                .description("Rows read or written per request or job")
+                .baseUnit("rows")
+                .tag("kind", kind)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("db.time")
+                .description("Time spent executing SQL per request or job")
+                .tag("kind", kind)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.time());
+    }
+}
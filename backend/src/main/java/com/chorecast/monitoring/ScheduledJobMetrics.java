@@ -0,0 +1,100 @@
+package com.chorecast.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes scheduler.job.duration, scheduler.job.rows and
+ * scheduler.job.last.success for every @Scheduled run, tagged with the job
+ * as {@code Class.method}. Jobs report the rows they handled through
+ * {@link #recordRows}; the run is tracked per thread, like {@link QueryStats}.
+ */
+@Component
+public class ScheduledJobMetrics implements ObservationHandler<ScheduledTaskObservationContext> {
+    private static final ThreadLocal<AtomicLong> ROWS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ScheduledJobMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    ScheduledJobMetrics(MeterRegistry meterRegistry, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    // Adds to the rows of the job running on this thread; a no-op outside a scheduled run
+    public static void recordRows(long rows) {
+        AtomicLong current = ROWS.get();
+        if (current != null) {
+            current.addAndGet(rows);
+        }
+    }
+
+    @Override
+    public void onStart(ScheduledTaskObservationContext context) {
+        AtomicLong rows = new AtomicLong();
+        ROWS.set(rows);
+        context.put(AtomicLong.class, rows);
+        context.put(Timer.Sample.class, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void onStop(ScheduledTaskObservationContext context) {
+        Timer.Sample sample = context.get(Timer.Sample.class);
+        AtomicLong rows = context.get(AtomicLong.class);
+        if (sample == null || rows == null) {
+            return;
+        }
+        ROWS.remove();
+
+        String job = context.getTargetClass().getSimpleName() + "." + context.getMethod().getName();
+        boolean succeeded = context.getError() == null;
+        sample.stop(Timer.builder("scheduler.job.duration")
+                .description("Scheduled job run time")
+                .tag("job", job)
+                .tag("outcome", succeeded ? "success" : "failure")
+                .register(meterRegistry));
+        DistributionSummary.builder("scheduler.job.rows")
+                .description("Items a scheduled job handled per run")
+                .baseUnit("rows")
+                .tag("job", job)
+                .register(meterRegistry)
+                .record(rows.get());
+
+        // Registered on the first run, so a job that has never succeeded reads 0
+        AtomicLong lastSuccessSeconds = lastSuccess.computeIfAbsent(job, name -> {
+            AtomicLong seconds = new AtomicLong();
+            Gauge.builder("scheduler.job.last.success", seconds, AtomicLong::get)
+                    .description("Epoch time of the job's last successful run")
+                    .baseUnit("seconds")
+                    .tag("job", name)
+                    .register(meterRegistry);
+            return seconds;
+        });
+        if (succeeded) {
+            lastSuccessSeconds.set(clock.instant().getEpochSecond());
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ScheduledTaskObservationContext;
+    }
+}
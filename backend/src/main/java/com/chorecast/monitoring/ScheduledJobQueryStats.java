@@ -0,0 +1,39 @@
+package com.chorecast.monitoring;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures the statements of every @Scheduled run, hooked into the
+ * observation Spring opens around each one on the job's own thread.
+ */
+@Component
+public class ScheduledJobQueryStats implements ObservationHandler<ScheduledTaskObservationContext> {
+    private final QueryStatsMetrics metrics;
+
+    public ScheduledJobQueryStats(QueryStatsMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onStart(ScheduledTaskObservationContext context) {
+        context.put(QueryStats.class, QueryStats.open());
+    }
+
+    @Override
+    public void onStop(ScheduledTaskObservationContext context) {
+        QueryStats stats = context.get(QueryStats.class);
+        if (stats == null) {
+            return;
+        }
+        stats.close();
+        metrics.record("job", context.getTargetClass().getSimpleName() + "." + context.getMethod().getName(), stats);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ScheduledTaskObservationContext;
+    }
+}
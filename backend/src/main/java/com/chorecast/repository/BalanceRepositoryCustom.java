@@ -0,0 +1,16 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.BalanceResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface BalanceRepositoryCustom {
+    List<BalanceResponse> findCurrentByHouseholdId(UUID householdId);
+
+    List<BalanceResponse> findCurrentByUserFrom(UUID userFrom);
+
+    List<BalanceResponse> findCurrentByUserTo(UUID userTo);
+
+    int foldLedger(UUID householdId);
+}
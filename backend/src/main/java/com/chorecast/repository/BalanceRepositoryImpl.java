@@ -0,0 +1,117 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.BalanceResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Balances are the last snapshot of the ledger (the balances rows plus the
+ * balance_snapshots watermark) with any newer ledger entries added on read.
+ */
+@RequiredArgsConstructor
+public class BalanceRepositoryImpl implements BalanceRepositoryCustom {
+
+    private static final String CURRENT_FOR_HOUSEHOLD_SQL = """
+            SELECT user_from, user_to, SUM(amount) AS amount, MAX(last_updated) AS last_updated
+            FROM (
+                SELECT b.household_id, b.user_from, b.user_to, b.amount, b.last_updated
+                FROM balances b
+                WHERE b.household_id = ?
+                UNION ALL
+                SELECT l.household_id, l.user_from, l.user_to, l.amount, l.created_at
+                FROM ledger_entries l
+                WHERE l.household_id = ?
+                  AND l.id > COALESCE((SELECT s.ledger_seq FROM balance_snapshots s WHERE s.household_id = ?), 0)
+            ) current
+            GROUP BY household_id, user_from, user_to
+            HAVING SUM(amount) > 0
+            """;
+
+    // %1$s is user_from or user_to; the user may belong to several snapshots
+    private static final String CURRENT_FOR_USER_SQL = """
+            SELECT user_from, user_to, SUM(amount) AS amount, MAX(last_updated) AS last_updated
+            FROM (
+                SELECT b.household_id, b.user_from, b.user_to, b.amount, b.last_updated
+                FROM balances b
+                WHERE b.%1$s = ?
+                UNION ALL
+                SELECT l.household_id, l.user_from, l.user_to, l.amount, l.created_at
+                FROM ledger_entries l
+                LEFT JOIN balance_snapshots s ON s.household_id = l.household_id
+                WHERE l.%1$s = ? AND l.id > COALESCE(s.ledger_seq, 0)
+            ) current
+            GROUP BY household_id, user_from, user_to
+            HAVING SUM(amount) > 0
+            """;
+
+    private static final String FOLD_SQL = """
+            WITH snapshot AS (
+                SELECT COALESCE((SELECT ledger_seq FROM balance_snapshots WHERE household_id = ?), 0) AS seq
+            )
+            INSERT INTO balances (id, household_id, user_from, user_to, amount, last_updated)
+            SELECT gen_random_uuid(), l.household_id, l.user_from, l.user_to, SUM(l.amount), now()
+            FROM ledger_entries l, snapshot
+            WHERE l.household_id = ? AND l.id > snapshot.seq AND l.id <= ?
+            GROUP BY l.household_id, l.user_from, l.user_to
+            ON CONFLICT (household_id, user_from, user_to)
+            DO UPDATE SET amount = balances.amount + excluded.amount, last_updated = excluded.last_updated
+            """;
+
+    private static final String SAVE_WATERMARK_SQL = """
+            INSERT INTO balance_snapshots (household_id, ledger_seq, taken_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (household_id) DO UPDATE SET ledger_seq = excluded.ledger_seq, taken_at = excluded.taken_at
+            """;
+
+    private static final RowMapper<BalanceResponse> BALANCE_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp lastUpdated = rs.getTimestamp("last_updated");
+        return new BalanceResponse(
+                rs.getObject("user_from", UUID.class),
+                rs.getObject("user_to", UUID.class),
+                rs.getBigDecimal("amount"),
+                lastUpdated != null ? lastUpdated.toLocalDateTime() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<BalanceResponse> findCurrentByHouseholdId(UUID householdId) {
+        return jdbcTemplate.query(CURRENT_FOR_HOUSEHOLD_SQL, BALANCE_ROW_MAPPER, householdId, householdId, householdId);
+    }
+
+    @Override
+    public List<BalanceResponse> findCurrentByUserFrom(UUID userFrom) {
+        return jdbcTemplate.query(CURRENT_FOR_USER_SQL.formatted("user_from"), BALANCE_ROW_MAPPER, userFrom, userFrom);
+    }
+
+    @Override
+    public List<BalanceResponse> findCurrentByUserTo(UUID userTo) {
+        return jdbcTemplate.query(CURRENT_FOR_USER_SQL.formatted("user_to"), BALANCE_ROW_MAPPER, userTo, userTo);
+    }
+
+    /**
+     * Adds ledger entries newer than the household's watermark to its balances
+     * rows and advances the watermark. Must run inside a transaction. Returns
+     * the number of balance pairs touched.
+     */
+    @Override
+    public int foldLedger(UUID householdId) {
+        HouseholdLedgerLock.lockExclusive(jdbcTemplate, householdId);
+
+        Long latestSeq = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM ledger_entries WHERE household_id = ?", Long.class, householdId);
+        if (latestSeq == null) {
+            return 0;
+        }
+
+        int pairs = jdbcTemplate.update(FOLD_SQL, householdId, householdId, latestSeq);
+        jdbcTemplate.update("DELETE FROM balances WHERE household_id = ? AND amount = 0", householdId);
+        jdbcTemplate.update(SAVE_WATERMARK_SQL, householdId, latestSeq);
+        return pairs;
+    }
+}
@@ -0,0 +1,41 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long>, ChangeLogRepositoryCustom {
+    // Range read on uk_change_log_household_seq
+    List<ChangeLogEntry> findByHouseholdIdAndSeqGreaterThanOrderBySeq(UUID householdId, long seq, Limit limit);
+
+    /**
+     * Deletes the entries every current member has acknowledged and records
+     * how far the household's log has been compacted. Members that never
+     * acknowledged count as 0, which holds compaction back.
+     */
+    @Modifying
+    @Query(value = """
+            WITH acked AS (
+                SELECT coalesce(min(coalesce(a.acked_seq, 0)), 0) AS seq
+                FROM users u
+                LEFT JOIN sync_acks a ON a.household_id = u.household_id AND a.user_id = u.id
+                WHERE u.household_id = :householdId
+            ), compacted AS (
+                UPDATE household_sequences s SET compacted_through = acked.seq
+                FROM acked
+                WHERE s.household_id = :householdId AND acked.seq > s.compacted_through
+                RETURNING s.compacted_through
+            )
+            DELETE FROM change_log
+            WHERE household_id = :householdId AND seq <= (SELECT compacted_through FROM compacted)
+            """, nativeQuery = true)
+    int compact(@Param("householdId") UUID householdId);
+}
@@ -0,0 +1,10 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.ChangeLogEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ChangeLogRepositoryCustom {
+    long append(UUID householdId, List<ChangeLogEntry> entries);
+}
@@ -0,0 +1,64 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.ChangeLogEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ChangeLogRepositoryImpl implements ChangeLogRepositoryCustom {
+
+    // Reserves the sequence block and inserts the entries in one statement
+    private static final String APPEND_SQL = """
+            WITH reserved AS (
+                INSERT INTO household_sequences (household_id, last_seq, compacted_through)
+                VALUES (?, ?, 0)
+                ON CONFLICT (household_id)
+                    DO UPDATE SET last_seq = household_sequences.last_seq + EXCLUDED.last_seq
+                RETURNING last_seq
+            )
+            INSERT INTO change_log (household_id, seq, entity_type, entity_id, operation, created_at)
+            SELECT ?, reserved.last_seq - ? + e.ord, e.entity_type, e.entity_id, e.operation, now()
+            FROM reserved, unnest(?::varchar[], ?::uuid[], ?::varchar[]) WITH ORDINALITY
+                AS e(entity_type, entity_id, operation, ord)
+            RETURNING seq
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends the entries with consecutive sequence numbers and returns the
+     * highest. The household_sequences row stays locked until commit, so
+     * sequences become visible in order and a reader never skips one that
+     * commits later.
+     */
+    @Override
+    public long append(UUID householdId, List<ChangeLogEntry> entries) {
+        int size = entries.size();
+        String[] types = new String[size];
+        UUID[] entityIds = new UUID[size];
+        String[] operations = new String[size];
+        for (int i = 0; i < size; i++) {
+            ChangeLogEntry entry = entries.get(i);
+            types[i] = entry.getEntityType().name();
+            entityIds[i] = entry.getEntityId();
+            operations[i] = entry.getOperation().name();
+        }
+
+        List<Long> seqs = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(APPEND_SQL);
+            ps.setObject(1, householdId);
+            ps.setLong(2, size);
+            ps.setObject(3, householdId);
+            ps.setLong(4, size);
+            ps.setArray(5, connection.createArrayOf("varchar", types));
+            ps.setArray(6, connection.createArrayOf("uuid", entityIds));
+            ps.setArray(7, connection.createArrayOf("varchar", operations));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("seq"));
+        return seqs.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+}
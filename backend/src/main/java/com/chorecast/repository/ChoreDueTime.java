@@ -0,0 +1,7 @@
+package com.chorecast.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ChoreDueTime(UUID id, UUID householdId, LocalDateTime nextDue, boolean completed) {
+}
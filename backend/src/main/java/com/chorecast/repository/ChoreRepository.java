@@ -1,17 +1,71 @@
 package com.chorecast.repository;
 
+import com.chorecast.dto.ChoreResponse;
 import com.chorecast.model.Chore;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ChoreRepository extends JpaRepository<Chore, UUID> {
+public interface ChoreRepository extends JpaRepository<Chore, UUID>, ChoreRepositoryCustom {
     List<Chore> findByHouseholdId(UUID householdId);
     List<Chore> findByAssignedTo(UUID assignedTo);
     List<Chore> findByNextDueBeforeAndCompletedFalse(LocalDateTime date);
     List<Chore> findByHouseholdIdAndCompletedFalse(UUID householdId);
+    Optional<Chore> findByIdAndHouseholdId(UUID id, UUID householdId);
+
+    // Read paths select straight into the DTO, so no managed entities or dirty-checking snapshots are built
+    @Query("""
+            SELECT new com.chorecast.dto.ChoreResponse(c.id, c.name, c.description, c.frequency, c.lastDone,
+                                                       c.assignedTo, c.nextDue, c.completed)
+            FROM Chore c
+            WHERE c.householdId = :householdId
+            """)
+    List<ChoreResponse> findResponsesByHouseholdId(@Param("householdId") UUID householdId);
+
+    @Query("""
+            SELECT new com.chorecast.dto.ChoreResponse(c.id, c.name, c.description, c.frequency, c.lastDone,
+                                                       c.assignedTo, c.nextDue, c.completed)
+            FROM Chore c
+            WHERE c.householdId = :householdId AND c.id IN :ids
+            """)
+    List<ChoreResponse> findResponsesByHouseholdIdAndIdIn(@Param("householdId") UUID householdId,
+                                                         @Param("ids") Collection<UUID> ids);
+
+    // Range reads over idx_chores_next_due for ChoreDueQueue, which only holds open chores
+    List<ChoreDueTime> findByCompletedFalseAndNextDueBeforeOrderByNextDue(LocalDateTime to, Limit limit);
+    List<ChoreDueTime> findByCompletedFalseAndNextDueGreaterThanEqualAndNextDueBeforeOrderByNextDue(
+            LocalDateTime from, LocalDateTime to, Limit limit);
+    List<ChoreDueTime> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * Resets completed chores of the given scheduler shards. Each shard is
+     * try-locked for the transaction first, so a shard that is changing owner
+     * is never reset by two nodes at once; shards another node holds are skipped.
+     * Returns the reset chores, so their households can be told.
+     */
+    @Transactional
+    @Query(value = """
+            WITH owned AS MATERIALIZED (
+                SELECT s FROM generate_series(0, :shardCount - 1) s WHERE s IN (:shards)
+            ), locked AS MATERIALIZED (
+                SELECT s FROM owned WHERE pg_try_advisory_xact_lock(hashtext('chores.reset'), s)
+            )
+            UPDATE chores SET completed = false, updated_at = :now
+            WHERE completed = true AND next_due < :now
+              AND get_byte(uuid_send(household_id), 15) % :shardCount IN (SELECT s FROM locked)
+            RETURNING id AS "id", household_id AS "householdId"
+            """, nativeQuery = true)
+    List<ChoreReset> resetCompletedChoresDueBefore(@Param("now") LocalDateTime now,
+                                                   @Param("shardCount") int shardCount,
+                                                   @Param("shards") Collection<Integer> shards);
 }
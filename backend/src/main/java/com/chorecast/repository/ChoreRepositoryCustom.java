@@ -0,0 +1,16 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.ChoreFilter;
+import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.PageCursor;
+import com.chorecast.model.Chore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ChoreRepositoryCustom {
+    List<ChoreResponse> findPage(UUID householdId, ChoreFilter filter, PageCursor after, int limit);
+
+    void append(Collection<Chore> chores);
+}
@@ -0,0 +1,138 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.ChoreFilter;
+import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.PageCursor;
+import com.chorecast.model.Chore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ChoreRepositoryImpl implements ChoreRepositoryCustom {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO chores (id, name, description, frequency, last_done, assigned_to, next_due, completed,
+                                household_id, created_at, updated_at)
+            SELECT c.id, c.name, c.description, c.frequency, c.last_done, c.assigned_to, c.next_due, c.completed,
+                   c.household_id, c.created_at, c.created_at
+            FROM unnest(?::uuid[], ?::varchar[], ?::text[], ?::varchar[], ?::timestamp[], ?::uuid[], ?::timestamp[],
+                        ?::boolean[], ?::uuid[], ?::timestamp[])
+                AS c(id, name, description, frequency, last_done, assigned_to, next_due, completed,
+                     household_id, created_at)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Keyset page ordered by (next_due, id), served by idx_chores_household_next_due.
+     * The redundant {@code next_due >= :at} bound lets the index seek straight to the
+     * cursor instead of filtering every earlier row. Rows are selected straight
+     * into the response DTO.
+     */
+    @Override
+    public List<ChoreResponse> findPage(UUID householdId, ChoreFilter filter, PageCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ChoreResponse> query = cb.createQuery(ChoreResponse.class);
+        Root<Chore> chore = query.from(Chore.class);
+        Path<LocalDateTime> nextDue = chore.get("nextDue");
+        Path<UUID> id = chore.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(chore.get("householdId"), householdId));
+        if (filter.getAssignedTo() != null) {
+            predicates.add(cb.equal(chore.get("assignedTo"), filter.getAssignedTo()));
+        }
+        if (filter.getCompleted() != null) {
+            predicates.add(cb.equal(chore.get("completed"), filter.getCompleted()));
+        }
+        if (filter.getDueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(nextDue, filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            predicates.add(cb.lessThan(nextDue, filter.getDueTo()));
+        }
+        if (after != null) {
+            predicates.add(cb.greaterThanOrEqualTo(nextDue, after.at()));
+            predicates.add(cb.or(cb.greaterThan(nextDue, after.at()), cb.greaterThan(id, after.id())));
+        }
+
+        query.select(cb.construct(ChoreResponse.class, id, chore.get("name"), chore.get("description"),
+                        chore.get("frequency"), chore.get("lastDone"), chore.get("assignedTo"), nextDue,
+                        chore.get("completed")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(nextDue), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Inserts all chores with a single statement, bypassing the persistence
+     * context. Ids and created_at must already be set.
+     */
+    @Override
+    public void append(Collection<Chore> chores) {
+        if (chores.isEmpty()) {
+            return;
+        }
+        List<Chore> rows = List.copyOf(chores);
+        int size = rows.size();
+        UUID[] ids = new UUID[size];
+        String[] names = new String[size];
+        String[] descriptions = new String[size];
+        String[] frequencies = new String[size];
+        Timestamp[] lastDone = new Timestamp[size];
+        UUID[] assignees = new UUID[size];
+        Timestamp[] nextDue = new Timestamp[size];
+        Boolean[] completed = new Boolean[size];
+        UUID[] households = new UUID[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            Chore chore = rows.get(i);
+            ids[i] = chore.getId();
+            names[i] = chore.getName();
+            descriptions[i] = chore.getDescription();
+            frequencies[i] = chore.getFrequency().name();
+            lastDone[i] = chore.getLastDone() == null ? null : Timestamp.valueOf(chore.getLastDone());
+            assignees[i] = chore.getAssignedTo();
+            nextDue[i] = Timestamp.valueOf(chore.getNextDue());
+            completed[i] = chore.getCompleted();
+            households[i] = chore.getHouseholdId();
+            createdAt[i] = Timestamp.valueOf(chore.getCreatedAt());
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(APPEND_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", ids));
+            ps.setArray(2, connection.createArrayOf("varchar", names));
+            ps.setArray(3, connection.createArrayOf("text", descriptions));
+            ps.setArray(4, connection.createArrayOf("varchar", frequencies));
+            ps.setArray(5, connection.createArrayOf("timestamp", lastDone));
+            ps.setArray(6, connection.createArrayOf("uuid", assignees));
+            ps.setArray(7, connection.createArrayOf("timestamp", nextDue));
+            ps.setArray(8, connection.createArrayOf("boolean", completed));
+            ps.setArray(9, connection.createArrayOf("uuid", households));
+            ps.setArray(10, connection.createArrayOf("timestamp", createdAt));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.chorecast.repository;
+
+import java.util.UUID;
+
+public interface ChoreReset {
+    UUID getId();
+
+    UUID getHouseholdId();
+}
@@ -0,0 +1,30 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.ExpenseTotalResponse;
+import com.chorecast.model.ExpenseParticipant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ExpenseParticipantRepository
+        extends JpaRepository<ExpenseParticipant, ExpenseParticipant.Key>, ExpenseParticipantRepositoryCustom {
+
+    // Summed in the database over idx_expense_participants_household_user; settled == null counts every expense
+    @Query("""
+            SELECT new com.chorecast.dto.ExpenseTotalResponse(p.userId, SUM(p.paidCents), SUM(p.shareCents))
+            FROM ExpenseParticipant p JOIN Expense e ON e.id = p.expenseId
+            WHERE p.householdId = :householdId AND (:settled IS NULL OR e.settled = :settled)
+            GROUP BY p.userId
+            ORDER BY p.userId
+            """)
+    List<ExpenseTotalResponse> findTotalsByHouseholdId(@Param("householdId") UUID householdId,
+                                                       @Param("settled") Boolean settled);
+
+    List<ExpenseParticipant> findByExpenseIdIn(Collection<UUID> expenseIds);
+}
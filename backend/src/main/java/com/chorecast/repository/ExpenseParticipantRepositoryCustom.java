@@ -0,0 +1,9 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.ExpenseParticipant;
+
+import java.util.Collection;
+
+public interface ExpenseParticipantRepositoryCustom {
+    void append(Collection<ExpenseParticipant> participants);
+}
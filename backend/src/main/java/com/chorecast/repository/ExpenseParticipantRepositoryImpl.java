@@ -0,0 +1,62 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.ExpenseParticipant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ExpenseParticipantRepositoryImpl implements ExpenseParticipantRepositoryCustom {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO expense_participants (expense_id, user_id, household_id, share_cents, paid_cents, created_at)
+            SELECT p.expense_id, p.user_id, p.household_id, p.share_cents, p.paid_cents, p.created_at
+            FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::bigint[], ?::bigint[], ?::timestamp[])
+                AS p(expense_id, user_id, household_id, share_cents, paid_cents, created_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all rows with a single statement.
+     */
+    @Override
+    public void append(Collection<ExpenseParticipant> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        List<ExpenseParticipant> rows = List.copyOf(participants);
+        int size = rows.size();
+        UUID[] expenses = new UUID[size];
+        UUID[] users = new UUID[size];
+        UUID[] households = new UUID[size];
+        Long[] shares = new Long[size];
+        Long[] paid = new Long[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            ExpenseParticipant row = rows.get(i);
+            expenses[i] = row.getExpenseId();
+            users[i] = row.getUserId();
+            households[i] = row.getHouseholdId();
+            shares[i] = row.getShareCents();
+            paid[i] = row.getPaidCents();
+            createdAt[i] = Timestamp.valueOf(row.getCreatedAt());
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(APPEND_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", expenses));
+            ps.setArray(2, connection.createArrayOf("uuid", users));
+            ps.setArray(3, connection.createArrayOf("uuid", households));
+            ps.setArray(4, connection.createArrayOf("bigint", shares));
+            ps.setArray(5, connection.createArrayOf("bigint", paid));
+            ps.setArray(6, connection.createArrayOf("timestamp", createdAt));
+            return ps;
+        });
+    }
+}
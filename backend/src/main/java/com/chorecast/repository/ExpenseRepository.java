@@ -1,14 +1,43 @@
 package com.chorecast.repository;
 
+import com.chorecast.dto.ExpenseResponse;
 import com.chorecast.model.Expense;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
+public interface ExpenseRepository extends JpaRepository<Expense, UUID>, ExpenseRepositoryCustom {
     List<Expense> findByHouseholdId(UUID householdId);
     List<Expense> findByHouseholdIdAndSettledFalse(UUID householdId);
+
+    // Read paths select straight into the DTO, so no managed entities or dirty-checking snapshots are built
+    @Query("""
+            SELECT new com.chorecast.dto.ExpenseResponse(e.id, e.description, e.amount, e.payerId, e.participants,
+                                                         e.createdAt, e.settled)
+            FROM Expense e
+            WHERE e.householdId = :householdId
+            """)
+    List<ExpenseResponse> findResponsesByHouseholdId(@Param("householdId") UUID householdId);
+
+    @Query("""
+            SELECT new com.chorecast.dto.ExpenseResponse(e.id, e.description, e.amount, e.payerId, e.participants,
+                                                         e.createdAt, e.settled)
+            FROM Expense e
+            WHERE e.householdId = :householdId AND e.id IN :ids
+            """)
+    List<ExpenseResponse> findResponsesByHouseholdIdAndIdIn(@Param("householdId") UUID householdId,
+                                                           @Param("ids") Collection<UUID> ids);
+
+    boolean existsByIdAndHouseholdId(UUID id, UUID householdId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Expense> findByHouseholdIdAndIdInAndSettledFalse(UUID householdId, Collection<UUID> ids);
 }
@@ -0,0 +1,18 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.ExpenseFilter;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.dto.PageCursor;
+import com.chorecast.model.Expense;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ExpenseRepositoryCustom {
+    List<ExpenseResponse> findPage(UUID householdId, ExpenseFilter filter, PageCursor after, int limit);
+
+    List<ExpenseResponse> findParticipantPage(UUID householdId, UUID userId, PageCursor after, int limit);
+
+    void append(Collection<Expense> expenses);
+}
@@ -0,0 +1,158 @@
+package com.chorecast.repository;
+
+import com.chorecast.dto.ExpenseFilter;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.dto.PageCursor;
+import com.chorecast.model.Expense;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ExpenseRepositoryImpl implements ExpenseRepositoryCustom {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO expenses (id, description, amount, payer_id, participants, household_id, settled, created_at)
+            SELECT e.id, e.description, e.amount, e.payer_id, e.participants::jsonb, e.household_id, e.settled,
+                   e.created_at
+            FROM unnest(?::uuid[], ?::varchar[], ?::numeric[], ?::uuid[], ?::text[], ?::uuid[], ?::boolean[],
+                        ?::timestamp[])
+                AS e(id, description, amount, payer_id, participants, household_id, settled, created_at)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Keyset page ordered newest first by (created_at, id), served by
+     * idx_expenses_household_created read backwards. Rows are selected
+     * straight into the response DTO.
+     */
+    @Override
+    public List<ExpenseResponse> findPage(UUID householdId, ExpenseFilter filter, PageCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseResponse> query = cb.createQuery(ExpenseResponse.class);
+        Root<Expense> expense = query.from(Expense.class);
+        Path<LocalDateTime> createdAt = expense.get("createdAt");
+        Path<UUID> id = expense.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(expense.get("householdId"), householdId));
+        if (filter.getSettled() != null) {
+            predicates.add(cb.equal(expense.get("settled"), filter.getSettled()));
+        }
+        if (filter.getPayerId() != null) {
+            predicates.add(cb.equal(expense.get("payerId"), filter.getPayerId()));
+        }
+        if (after != null) {
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.at()));
+            predicates.add(cb.or(cb.lessThan(createdAt, after.at()), cb.lessThan(id, after.id())));
+        }
+
+        query.select(cb.construct(ExpenseResponse.class, id, expense.get("description"), expense.get("amount"),
+                        expense.get("payerId"), expense.get("participants"), createdAt, expense.get("settled")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Keyset page of the expenses a user paid for or shares in, newest first,
+     * read backwards from idx_expense_participants_user_created. Only the
+     * page's expenses are joined.
+     */
+    @Override
+    public List<ExpenseResponse> findParticipantPage(UUID householdId, UUID userId, PageCursor after, int limit) {
+        String keyset = after == null ? "" : """
+                AND p.createdAt <= :at AND (p.createdAt < :at OR p.expenseId < :afterId)
+                """;
+        TypedQuery<ExpenseResponse> query = entityManager.createQuery("""
+                SELECT new com.chorecast.dto.ExpenseResponse(e.id, e.description, e.amount, e.payerId,
+                                                             e.participants, e.createdAt, e.settled)
+                FROM ExpenseParticipant p JOIN Expense e ON e.id = p.expenseId
+                WHERE p.userId = :userId AND p.householdId = :householdId
+                """ + keyset + """
+                ORDER BY p.createdAt DESC, p.expenseId DESC
+                """, ExpenseResponse.class)
+                .setParameter("userId", userId)
+                .setParameter("householdId", householdId);
+        if (after != null) {
+            query.setParameter("at", after.at()).setParameter("afterId", after.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Inserts all expenses with a single statement, bypassing the persistence
+     * context. Ids and created_at must already be set.
+     */
+    @Override
+    public void append(Collection<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        List<Expense> rows = List.copyOf(expenses);
+        int size = rows.size();
+        UUID[] ids = new UUID[size];
+        String[] descriptions = new String[size];
+        BigDecimal[] amounts = new BigDecimal[size];
+        UUID[] payers = new UUID[size];
+        String[] participants = new String[size];
+        UUID[] households = new UUID[size];
+        Boolean[] settled = new Boolean[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            Expense expense = rows.get(i);
+            ids[i] = expense.getId();
+            descriptions[i] = expense.getDescription();
+            amounts[i] = expense.getAmount();
+            payers[i] = expense.getPayerId();
+            participants[i] = json(expense.getParticipants());
+            households[i] = expense.getHouseholdId();
+            settled[i] = expense.getSettled();
+            createdAt[i] = Timestamp.valueOf(expense.getCreatedAt());
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(APPEND_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", ids));
+            ps.setArray(2, connection.createArrayOf("varchar", descriptions));
+            ps.setArray(3, connection.createArrayOf("numeric", amounts));
+            ps.setArray(4, connection.createArrayOf("uuid", payers));
+            ps.setArray(5, connection.createArrayOf("text", participants));
+            ps.setArray(6, connection.createArrayOf("uuid", households));
+            ps.setArray(7, connection.createArrayOf("boolean", settled));
+            ps.setArray(8, connection.createArrayOf("timestamp", createdAt));
+            return ps;
+        });
+    }
+
+    // The same JSON array of ids Hibernate writes to the jsonb column
+    private static String json(List<UUID> ids) {
+        StringJoiner json = new StringJoiner("\",\"", "[\"", "\"]").setEmptyValue("[]");
+        ids.forEach(id -> json.add(id.toString()));
+        return json.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.chorecast.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Transaction-scoped PostgreSQL advisory lock per household. Ledger appends
+ * share it; folding the ledger into balances takes it exclusively, so the fold
+ * never runs while an append with a lower sequence number is uncommitted.
+ */
+final class HouseholdLedgerLock {
+
+    private HouseholdLedgerLock() {
+    }
+
+    static void lockShared(JdbcTemplate jdbcTemplate, Collection<UUID> householdIds) {
+        householdIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(householdId -> jdbcTemplate.queryForList(
+                        "SELECT pg_advisory_xact_lock_shared(?)", key(householdId)));
+    }
+
+    static void lockExclusive(JdbcTemplate jdbcTemplate, UUID householdId) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", key(householdId));
+    }
+
+    private static long key(UUID householdId) {
+        return householdId.getMostSignificantBits() ^ householdId.getLeastSignificantBits();
+    }
+}
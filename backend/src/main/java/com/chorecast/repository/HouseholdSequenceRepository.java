@@ -0,0 +1,11 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.HouseholdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface HouseholdSequenceRepository extends JpaRepository<HouseholdSequence, UUID> {
+}
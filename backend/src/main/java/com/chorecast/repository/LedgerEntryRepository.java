@@ -0,0 +1,19 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long>, LedgerEntryRepositoryCustom {
+    List<LedgerEntry> findByExpenseIdOrderById(UUID expenseId);
+
+    @Query("SELECT l.householdId AS householdId, MAX(l.id) AS latestSeq FROM LedgerEntry l "
+            + "WHERE l.id > :seq GROUP BY l.householdId")
+    List<LedgerHouseholdHead> findHouseholdsWithEntriesAfter(@Param("seq") long seq);
+}
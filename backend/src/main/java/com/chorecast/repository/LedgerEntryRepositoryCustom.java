@@ -0,0 +1,14 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.Expense;
+import com.chorecast.model.LedgerEntry;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface LedgerEntryRepositoryCustom {
+    void append(Collection<LedgerEntry> entries);
+
+    Set<UUID> reverseCharges(Collection<Expense> expenses);
+}
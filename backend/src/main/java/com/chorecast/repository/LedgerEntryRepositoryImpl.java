@@ -0,0 +1,99 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.Expense;
+import com.chorecast.model.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class LedgerEntryRepositoryImpl implements LedgerEntryRepositoryCustom {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO ledger_entries (household_id, expense_id, user_from, user_to, amount, entry_type, created_at)
+            SELECT e.household_id, e.expense_id, e.user_from, e.user_to, e.amount, e.entry_type, now()
+            FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::uuid[], ?::numeric[], ?::varchar[])
+                AS e(household_id, expense_id, user_from, user_to, amount, entry_type)
+            """;
+
+    // Reverses the exact amounts that were charged, not a recomputed split
+    private static final String REVERSE_SQL = """
+            INSERT INTO ledger_entries (household_id, expense_id, user_from, user_to, amount, entry_type, created_at)
+            SELECT household_id, expense_id, user_from, user_to, -amount, 'REVERSAL', now()
+            FROM ledger_entries
+            WHERE expense_id = ANY(?::uuid[]) AND entry_type = 'CHARGE'
+            RETURNING expense_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all entries with a single statement.
+     */
+    @Override
+    public void append(Collection<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<LedgerEntry> rows = List.copyOf(entries);
+        HouseholdLedgerLock.lockShared(jdbcTemplate, rows.stream().map(LedgerEntry::getHouseholdId).toList());
+
+        int size = rows.size();
+        UUID[] households = new UUID[size];
+        UUID[] expenses = new UUID[size];
+        UUID[] froms = new UUID[size];
+        UUID[] tos = new UUID[size];
+        BigDecimal[] amounts = new BigDecimal[size];
+        String[] types = new String[size];
+        for (int i = 0; i < size; i++) {
+            LedgerEntry entry = rows.get(i);
+            households[i] = entry.getHouseholdId();
+            expenses[i] = entry.getExpenseId();
+            froms[i] = entry.getUserFrom();
+            tos[i] = entry.getUserTo();
+            amounts[i] = entry.getAmount();
+            types[i] = entry.getEntryType().name();
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(APPEND_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", households));
+            ps.setArray(2, connection.createArrayOf("uuid", expenses));
+            ps.setArray(3, connection.createArrayOf("uuid", froms));
+            ps.setArray(4, connection.createArrayOf("uuid", tos));
+            ps.setArray(5, connection.createArrayOf("numeric", amounts));
+            ps.setArray(6, connection.createArrayOf("varchar", types));
+            return ps;
+        });
+    }
+
+    /**
+     * Appends a REVERSAL for every CHARGE recorded against the given expenses
+     * and returns the ids of the expenses that had charges to reverse.
+     */
+    @Override
+    public Set<UUID> reverseCharges(Collection<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return Set.of();
+        }
+        HouseholdLedgerLock.lockShared(jdbcTemplate, expenses.stream().map(Expense::getHouseholdId).toList());
+
+        UUID[] expenseIds = expenses.stream().map(Expense::getId).toArray(UUID[]::new);
+        Set<UUID> reversed = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REVERSE_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", expenseIds));
+            return ps;
+        }, rs -> {
+            reversed.add(rs.getObject("expense_id", UUID.class));
+        });
+        return reversed;
+    }
+}
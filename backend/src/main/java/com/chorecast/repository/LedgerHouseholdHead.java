@@ -0,0 +1,9 @@
+package com.chorecast.repository;
+
+import java.util.UUID;
+
+public interface LedgerHouseholdHead {
+    UUID getHouseholdId();
+
+    Long getLatestSeq();
+}
@@ -2,9 +2,14 @@ package com.chorecast.repository;
 
 import com.chorecast.model.Reminder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +17,61 @@ import java.util.UUID;
 public interface ReminderRepository extends JpaRepository<Reminder, UUID> {
     List<Reminder> findByDueDateBeforeAndSentFalse(LocalDateTime date);
     List<Reminder> findByUserId(UUID userId);
+
+    /**
+     * Creates a reminder for each of the given chores that has come due, at
+     * most once per occurrence. Chores completed since they were queued have
+     * moved next_due forward and are skipped; uk_reminders_pending_chore
+     * settles races between concurrent inserts.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO reminders (id, user_id, chore_id, occurrence_due, message, type, due_date, sent)
+            SELECT gen_random_uuid(), c.assigned_to, c.id, c.next_due,
+                   '🧹 Reminder: It''s time to ' || c.name || '!', 'CHORE', :now, false
+            FROM chores c
+            WHERE c.id IN (:choreIds) AND c.next_due <= :now
+              AND NOT EXISTS (SELECT 1 FROM reminders r
+                              WHERE r.chore_id = c.id AND r.occurrence_due = c.next_due)
+            ON CONFLICT (chore_id, occurrence_due) WHERE sent = false DO NOTHING
+            """, nativeQuery = true)
+    int insertDueChoreReminders(@Param("choreIds") Collection<UUID> choreIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Claims up to {@code limit} due reminders for delivery. SKIP LOCKED lets
+     * concurrent senders take disjoint batches, and pushing next_attempt_at to
+     * the lease end keeps the rows from being claimed again while in flight.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE reminders SET next_attempt_at = :leaseUntil, attempts = attempts + 1
+            WHERE id IN (
+                SELECT id FROM reminders
+                WHERE sent = false AND status = 'PENDING' AND due_date <= :now
+                  AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+                ORDER BY due_date
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<Reminder> claimDue(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+                            @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE reminders SET sent = true, status = 'SENT', last_error = NULL WHERE id IN (:ids)",
+            nativeQuery = true)
+    int markSent(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reminder r SET r.nextAttemptAt = :nextAttemptAt, r.lastError = :error WHERE r.id = :id")
+    int markForRetry(@Param("id") UUID id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                     @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE reminders SET status = 'DEAD', last_error = :error WHERE id = :id", nativeQuery = true)
+    int markDead(@Param("id") UUID id, @Param("error") String error);
 }
@@ -0,0 +1,44 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Heartbeats use the database clock so nodes with skewed clocks still agree
+ * on who is alive.
+ */
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduler_nodes (node_id, heartbeat_at, started_at)
+            VALUES (:nodeId, localtimestamp, localtimestamp)
+            ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = localtimestamp
+            """, nativeQuery = true)
+    int heartbeat(@Param("nodeId") UUID nodeId);
+
+    @Query(value = """
+            SELECT node_id FROM scheduler_nodes
+            WHERE heartbeat_at > localtimestamp - make_interval(secs => :leaseSeconds)
+            ORDER BY node_id
+            """, nativeQuery = true)
+    List<UUID> findLiveNodeIds(@Param("leaseSeconds") long leaseSeconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM scheduler_nodes
+            WHERE heartbeat_at <= localtimestamp - make_interval(secs => :leaseSeconds)
+            """, nativeQuery = true)
+    int deleteExpired(@Param("leaseSeconds") long leaseSeconds);
+}
@@ -0,0 +1,26 @@
+package com.chorecast.repository;
+
+import com.chorecast.model.SyncAck;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface SyncAckRepository extends JpaRepository<SyncAck, UUID> {
+
+    // Acks only move forward and never past the household's last sequence
+    @Modifying
+    @Query(value = """
+            INSERT INTO sync_acks (id, household_id, user_id, acked_seq, updated_at)
+            SELECT gen_random_uuid(), :householdId, :userId, LEAST(:seq, s.last_seq), now()
+            FROM household_sequences s
+            WHERE s.household_id = :householdId
+            ON CONFLICT (household_id, user_id)
+                DO UPDATE SET acked_seq = GREATEST(sync_acks.acked_seq, EXCLUDED.acked_seq), updated_at = now()
+            """, nativeQuery = true)
+    int acknowledge(@Param("householdId") UUID householdId, @Param("userId") UUID userId, @Param("seq") long seq);
+}
@@ -0,0 +1,176 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.repository.ChoreDueTime;
+import com.chorecast.repository.ChoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Open chores ordered by next_due, so reminders fire within one tick of the
+ * due time instead of waiting for a daily scan. Completed chores stay out
+ * until the nightly reset reopens them. Only chores due before
+ * {@code loadedUntil} are held, and never more than
+ * {@code app.scheduler.due-queue.max-size}; later ones are pulled in by range
+ * reads on idx_chores_next_due as the horizon moves forward.
+ */
+@Component
+@Slf4j
+public class ChoreDueQueue {
+    private static final Comparator<ChoreDueTime> BY_DUE =
+            Comparator.comparing(ChoreDueTime::nextDue).thenComparing(ChoreDueTime::id);
+
+    private final ChoreRepository choreRepository;
+    private final Duration horizon;
+    private final int maxSize;
+    private final Duration catchUpOverlap;
+
+    private final NavigableSet<ChoreDueTime> queue = new TreeSet<>(BY_DUE);
+    private final Map<UUID, ChoreDueTime> byChore = new HashMap<>();
+    // Every chore due before this point is in the queue; null until the first load
+    private LocalDateTime loadedUntil;
+    // Chores changed since this point, possibly by another node, are not applied yet
+    private LocalDateTime changesSeenUntil;
+
+    public ChoreDueQueue(ChoreRepository choreRepository,
+                         @Value("${app.scheduler.due-horizon:1d}") Duration horizon,
+                         @Value("${app.scheduler.due-queue.max-size:100000}") int maxSize,
+                         @Value("${app.scheduler.due-queue.catch-up-overlap:PT1M}") Duration catchUpOverlap) {
+        this.choreRepository = choreRepository;
+        this.horizon = horizon;
+        this.maxSize = maxSize;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    // Shards this node takes over need the chores it dropped for them while another node owned them
+    @EventListener(ShardsAcquiredEvent.class)
+    public synchronized void rebuild() {
+        queue.clear();
+        byChore.clear();
+        loadedUntil = null;
+
+        LocalDateTime now = LocalDateTime.now();
+        changesSeenUntil = now;
+        LocalDateTime to = now.plus(horizon);
+        load(choreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue(to, Limit.of(maxSize + 1)), to);
+        log.info("Loaded {} chores due before {} into the due queue", queue.size(), loadedUntil);
+    }
+
+    /**
+     * Pulls in chores due within the horizon once the loaded window is half
+     * used up, so the database sees one small range read per half horizon.
+     */
+    public synchronized void advance(LocalDateTime now) {
+        if (loadedUntil == null || queue.size() >= maxSize
+                || loadedUntil.isAfter(now.plus(horizon.dividedBy(2)))) {
+            return;
+        }
+        LocalDateTime to = now.plus(horizon);
+        load(choreRepository.findByCompletedFalseAndNextDueGreaterThanEqualAndNextDueBeforeOrderByNextDue(
+                loadedUntil, to, Limit.of(maxSize - queue.size() + 1)), to);
+    }
+
+    /**
+     * Applies chores created, completed or reset through other nodes, or by
+     * the nightly reset, since the last call. The window reaches back by {@code app.scheduler.due-queue.catch-up-overlap}
+     * to cover clock skew and late commits; re-applying a chore is harmless.
+     */
+    public synchronized void catchUp(LocalDateTime now) {
+        if (changesSeenUntil == null) {
+            return;
+        }
+        LocalDateTime since = changesSeenUntil.minus(catchUpOverlap);
+        changesSeenUntil = now;
+        choreRepository.findByUpdatedAtGreaterThanEqual(since).forEach(this::schedule);
+    }
+
+    // Only after commit: a write that rolls back leaves the queue as it was
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChoresRescheduled(ChoresRescheduledEvent event) {
+        event.chores().forEach(this::schedule);
+    }
+
+    /**
+     * Records a chore's new due time, or drops a completed chore. Chores due
+     * past the loaded window are left for {@link #advance} to pick up.
+     */
+    public synchronized void schedule(ChoreDueTime chore) {
+        ChoreDueTime previous = byChore.remove(chore.id());
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        if (chore.completed() || loadedUntil == null || !chore.nextDue().isBefore(loadedUntil)) {
+            return;
+        }
+        add(chore);
+        if (queue.size() > maxSize) {
+            truncateFrom(queue.last().nextDue());
+        }
+    }
+
+    public synchronized List<ChoreDueTime> pollDue(LocalDateTime now) {
+        List<ChoreDueTime> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.first().nextDue().isAfter(now)) {
+            ChoreDueTime chore = queue.pollFirst();
+            byChore.remove(chore.id());
+            due.add(chore);
+        }
+        return due;
+    }
+
+    // Puts back chores from a tick whose reminders could not be written
+    public synchronized void restore(Collection<ChoreDueTime> chores) {
+        for (ChoreDueTime chore : chores) {
+            if (!byChore.containsKey(chore.id())) {
+                add(chore);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    private void load(List<ChoreDueTime> chores, LocalDateTime to) {
+        int capacity = maxSize - queue.size();
+        LocalDateTime until = to;
+        if (chores.size() > capacity) {
+            // Stop short of the first chore that does not fit, dropping its ties too
+            until = chores.get(capacity).nextDue();
+            chores = chores.subList(0, capacity);
+        }
+        for (ChoreDueTime chore : chores) {
+            if (chore.nextDue().isBefore(until) && !byChore.containsKey(chore.id())) {
+                add(chore);
+            }
+        }
+        loadedUntil = until;
+    }
+
+    private void add(ChoreDueTime chore) {
+        queue.add(chore);
+        byChore.put(chore.id(), chore);
+    }
+
+    private void truncateFrom(LocalDateTime cutoff) {
+        while (!queue.isEmpty() && !queue.last().nextDue().isBefore(cutoff)) {
+            byChore.remove(queue.pollLast().id());
+        }
+        loadedUntil = cutoff;
+    }
+}
@@ -1,9 +1,9 @@
 package com.chorecast.scheduler;
 
-import com.chorecast.model.Chore;
-import com.chorecast.model.Reminder;
-import com.chorecast.repository.ChoreRepository;
+import com.chorecast.monitoring.ScheduledJobMetrics;
+import com.chorecast.repository.ChoreDueTime;
 import com.chorecast.repository.ReminderRepository;
+import com.chorecast.service.ChoreService;
 import com.chorecast.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,61 +12,72 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ChoreScheduler {
-    private final ChoreRepository choreRepository;
+    private final ChoreService choreService;
     private final ReminderRepository reminderRepository;
+    private final ChoreDueQueue choreDueQueue;
+    private final SchedulerCluster schedulerCluster;
     private final EmailService emailService;
 
-    @Scheduled(cron = "${app.scheduler.reminder-time}")
-    public void processOverdueChores() {
-        log.info("Running scheduled task: Processing overdue chores");
-        
-        List<Chore> overdueChores = choreRepository.findByNextDueBeforeAndCompletedFalse(LocalDateTime.now());
-        
-        for (Chore chore : overdueChores) {
-            createChoreReminder(chore);
+    @Scheduled(fixedDelayString = "${app.scheduler.due-tick:PT1M}")
+    public void remindDueChores() {
+        LocalDateTime now = LocalDateTime.now();
+        choreDueQueue.catchUp(now);
+        choreDueQueue.advance(now);
+
+        // Chores of other nodes' shards are dropped; taking a shard over rebuilds the queue
+        List<ChoreDueTime> due = choreDueQueue.pollDue(now).stream()
+                .filter(chore -> schedulerCluster.owns(chore.householdId()))
+                .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int created;
+        try {
+            created = reminderRepository.insertDueChoreReminders(due.stream().map(ChoreDueTime::id).toList(), now);
+        } catch (RuntimeException e) {
+            choreDueQueue.restore(due);
+            throw e;
         }
-        
-        log.info("Processed {} overdue chores", overdueChores.size());
+        ScheduledJobMetrics.recordRows(created);
+
+        log.info("Created {} reminders for {} due chores in {} ms",
+                created, due.size(), System.currentTimeMillis() - startedAt);
     }
 
-    @Scheduled(cron = "${app.scheduler.reminder-time}")
+    // Not sharded: claimDue hands concurrent nodes disjoint batches through SKIP LOCKED
+    @Scheduled(fixedDelayString = "${app.email.poll-interval:PT1M}")
     public void sendDueReminders() {
-        log.info("Running scheduled task: Sending due reminders");
-        emailService.sendDueReminders();
+        long startedAt = System.currentTimeMillis();
+
+        int delivered = emailService.sendDueReminders();
+        ScheduledJobMetrics.recordRows(delivered);
+
+        if (delivered > 0) {
+            log.info("Delivered {} reminders in {} ms", delivered, System.currentTimeMillis() - startedAt);
+        }
     }
 
     @Scheduled(cron = "0 0 2 * * ?") // 2 AM daily
     public void autoGenerateRecurringChores() {
-        log.info("Running scheduled task: Auto-generating recurring chores");
-        
-        List<Chore> completedChores = choreRepository.findAll().stream()
-                .filter(Chore::getCompleted)
-                .toList();
-        
-        for (Chore chore : completedChores) {
-            if (chore.getNextDue().isBefore(LocalDateTime.now())) {
-                // Reset chore for next cycle
-                chore.setCompleted(false);
-                choreRepository.save(chore);
-                log.info("Reset chore: {}", chore.getName());
-            }
+        Set<Integer> shards = schedulerCluster.ownedShards();
+        if (shards.isEmpty()) {
+            return;
         }
-    }
+        log.info("Running scheduled task: Auto-generating recurring chores for {} shards", shards.size());
+        long startedAt = System.currentTimeMillis();
+
+        // Single set-based UPDATE: only the ids of the reset chores come back, to notify their households
+        int reset = choreService.resetCompletedChores(LocalDateTime.now(), schedulerCluster.shardCount(), shards);
+        ScheduledJobMetrics.recordRows(reset);
 
-    private void createChoreReminder(Chore chore) {
-        Reminder reminder = Reminder.builder()
-                .userId(chore.getAssignedTo())
-                .message("🧹 Reminder: It's time to " + chore.getName() + "!")
-                .type(Reminder.ReminderType.CHORE)
-                .dueDate(LocalDateTime.now())
-                .sent(false)
-                .build();
-        
-        reminderRepository.save(reminder);
+        log.info("Reset {} recurring chores in {} ms", reset, System.currentTimeMillis() - startedAt);
     }
 }
@@ -0,0 +1,13 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.repository.ChoreDueTime;
+
+import java.util.List;
+
+/**
+ * Published by the services when they create or complete chores.
+ * {@link ChoreDueQueue} applies it only once the write commits, so a rolled
+ * back chore never reaches the queue.
+ */
+public record ChoresRescheduledEvent(List<ChoreDueTime> chores) {
+}
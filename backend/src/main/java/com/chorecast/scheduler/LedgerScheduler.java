@@ -0,0 +1,96 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.monitoring.ScheduledJobMetrics;
+import com.chorecast.repository.LedgerEntryRepository;
+import com.chorecast.repository.LedgerHouseholdHead;
+import com.chorecast.service.BalanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Folds new ledger entries into the balance snapshots of the households this
+ * node owns. Ledger ids are allocated when an entry is inserted but become
+ * visible only when its transaction commits, so a lower id can show up after
+ * a higher one was scanned. Each run therefore scans from the highest id seen
+ * at least {@code app.ledger.late-commit-margin} ago rather than from the
+ * highest id seen so far; households seen again just fold nothing new.
+ */
+@Component
+@Slf4j
+public class LedgerScheduler {
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceService balanceService;
+    private final SchedulerCluster schedulerCluster;
+    private final Duration lateCommitMargin;
+
+    // Highest ledger id seen by each recent run, oldest first, until it is older than the margin
+    private final Deque<ScanMark> recentMarks = new ArrayDeque<>();
+    // Scan start: highest id seen at least the margin ago; 0 makes the first run visit every household once
+    private long lastScannedSeq;
+    private long highestSeenSeq;
+    private volatile boolean rescan;
+
+    public LedgerScheduler(LedgerEntryRepository ledgerEntryRepository,
+                           BalanceService balanceService,
+                           SchedulerCluster schedulerCluster,
+                           @Value("${app.ledger.late-commit-margin:PT5M}") Duration lateCommitMargin) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.balanceService = balanceService;
+        this.schedulerCluster = schedulerCluster;
+        this.lateCommitMargin = lateCommitMargin;
+    }
+
+    // Households of newly owned shards were skipped while another node had them
+    @EventListener(ShardsAcquiredEvent.class)
+    public void onShardsAcquired() {
+        rescan = true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.ledger.snapshot-interval:PT1M}")
+    public void snapshotBalances() {
+        if (rescan) {
+            rescan = false;
+            recentMarks.clear();
+            lastScannedSeq = 0;
+            highestSeenSeq = 0;
+        }
+        long startedAt = System.currentTimeMillis();
+        List<LedgerHouseholdHead> households = ledgerEntryRepository.findHouseholdsWithEntriesAfter(lastScannedSeq);
+
+        int snapshotted = 0;
+        int pairs = 0;
+        for (LedgerHouseholdHead household : households) {
+            if (schedulerCluster.owns(household.getHouseholdId())) {
+                pairs += balanceService.snapshotHousehold(household.getHouseholdId());
+                snapshotted++;
+            }
+            highestSeenSeq = Math.max(highestSeenSeq, household.getLatestSeq());
+        }
+        ScheduledJobMetrics.recordRows(pairs);
+        advanceWatermark(startedAt);
+
+        if (snapshotted > 0) {
+            log.info("Snapshotted balances for {} households ({} pairs) in {} ms",
+                    snapshotted, pairs, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    // Entries below an id seen the margin ago have had that long to commit, so later scans can skip them
+    private void advanceWatermark(long now) {
+        recentMarks.addLast(new ScanMark(highestSeenSeq, now));
+        while (!recentMarks.isEmpty() && recentMarks.peekFirst().at() <= now - lateCommitMargin.toMillis()) {
+            lastScannedSeq = recentMarks.pollFirst().seq();
+        }
+    }
+
+    private record ScanMark(long seq, long at) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.repository.SchedulerNodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Splits scheduled work across backend replicas. Households hash into a fixed
+ * number of shards and every shard is owned by exactly one live node, chosen
+ * by rendezvous hashing over the nodes heartbeating in scheduler_nodes. When a
+ * node stops heartbeating, only its shards move.
+ */
+@Component
+@Slf4j
+public class SchedulerCluster {
+    private final SchedulerNodeRepository nodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int shardCount;
+    private final Duration lease;
+    private final UUID nodeId = UUID.randomUUID();
+
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile long lastHeartbeatNanos;
+
+    public SchedulerCluster(SchedulerNodeRepository nodeRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.scheduler.cluster.shards:64}") int shardCount,
+                            @Value("${app.scheduler.cluster.lease:PT30S}") Duration lease) {
+        if (shardCount < 1 || shardCount > 256) {
+            throw new IllegalArgumentException("app.scheduler.cluster.shards must be between 1 and 256");
+        }
+        this.nodeRepository = nodeRepository;
+        this.eventPublisher = eventPublisher;
+        this.shardCount = shardCount;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${app.scheduler.cluster.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        nodeRepository.heartbeat(nodeId);
+        // Read before renewing: after a lapse every shard counts as newly acquired
+        Set<Integer> previous = ownedShards();
+        lastHeartbeatNanos = System.nanoTime();
+        nodeRepository.deleteExpired(lease.toSeconds());
+
+        Set<Integer> owned = assign(nodeId, nodeRepository.findLiveNodeIds(lease.toSeconds()), shardCount);
+        Set<Integer> acquired = new HashSet<>(owned);
+        acquired.removeAll(previous);
+        if (!owned.equals(previous)) {
+            log.info("Node {} now owns {} of {} scheduler shards", nodeId, owned.size(), shardCount);
+        }
+        ownedShards = owned;
+
+        if (!acquired.isEmpty()) {
+            eventPublisher.publishEvent(new ShardsAcquiredEvent(Set.copyOf(acquired)));
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        ownedShards = Set.of();
+        try {
+            nodeRepository.deleteById(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Could not deregister scheduler node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Shards this node may process. Empty once its own lease has run out
+     * without a successful heartbeat, since other nodes may have taken over;
+     * the shards are then given up, so the next heartbeat acquires them anew.
+     */
+    public Set<Integer> ownedShards() {
+        if (System.nanoTime() - lastHeartbeatNanos > lease.toNanos()) {
+            if (!ownedShards.isEmpty()) {
+                log.warn("Scheduler node {} missed its lease, giving up {} shards", nodeId, ownedShards.size());
+                ownedShards = Set.of();
+            }
+            return Set.of();
+        }
+        return ownedShards;
+    }
+
+    public boolean owns(UUID householdId) {
+        return ownedShards().contains(shardOf(householdId));
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public UUID nodeId() {
+        return nodeId;
+    }
+
+    // Must match get_byte(uuid_send(household_id), 15) % shards in the sharded SQL
+    public int shardOf(UUID householdId) {
+        return (int) (householdId.getLeastSignificantBits() & 0xFF) % shardCount;
+    }
+
+    static Set<Integer> assign(UUID nodeId, Collection<UUID> liveNodes, int shardCount) {
+        List<UUID> nodes = liveNodes.stream().sorted().toList();
+        Set<Integer> owned = new HashSet<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            UUID owner = null;
+            long best = 0;
+            for (UUID node : nodes) {
+                long weight = weight(node, shard);
+                if (owner == null || weight > best) {
+                    owner = node;
+                    best = weight;
+                }
+            }
+            if (nodeId.equals(owner)) {
+                owned.add(shard);
+            }
+        }
+        return Set.copyOf(owned);
+    }
+
+    // SplitMix64 finalizer over the node id and shard
+    private static long weight(UUID node, int shard) {
+        long h = node.getMostSignificantBits() * 31 + node.getLeastSignificantBits() + shard * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,10 @@
+package com.chorecast.scheduler;
+
+import java.util.Set;
+
+/**
+ * Published by {@link SchedulerCluster} when this node takes over shards it
+ * did not own before, so jobs can reload state they skipped for them.
+ */
+public record ShardsAcquiredEvent(Set<Integer> shards) {
+}
@@ -0,0 +1,17 @@
+package com.chorecast.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.UUID;
+
+/**
+ * Principal resolved from the JWT claims alone; controllers receive it via
+ * {@code @AuthenticationPrincipal} without touching the users table.
+ */
+public record AuthenticatedUser(UUID id, String email, UUID householdId) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
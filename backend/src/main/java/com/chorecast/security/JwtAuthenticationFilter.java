@@ -1,5 +1,7 @@
 package com.chorecast.security;
 
+import com.chorecast.service.UserCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,33 +9,32 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    
+    private static final String STREAM_PATH = "/api/households/stream";
+
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenAuthenticationCache tokenCache;
+    private final UserCache userCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
-        String token = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            String email = tokenProvider.getEmailFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            
-            UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        AuthenticatedUser principal = authenticate(request);
+
+        if (principal != null) {
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(principal, null, List.of());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -42,6 +43,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private AuthenticatedUser authenticate(HttpServletRequest request) {
+        String token = getJwtFromRequest(request);
+        if (StringUtils.hasText(token)) {
+            return authenticate(token);
+        }
+        // Browsers' EventSource cannot send an Authorization header, so the stream takes a short-lived ticket
+        if (STREAM_PATH.equals(request.getRequestURI())) {
+            String ticket = request.getParameter("ticket");
+            return StringUtils.hasText(ticket) ? tokenProvider.parseStreamTicket(ticket) : null;
+        }
+        return null;
+    }
+
+    private AuthenticatedUser authenticate(String token) {
+        AuthenticatedUser cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = tokenProvider.parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        AuthenticatedUser principal = tokenProvider.toPrincipal(claims);
+        if (principal == null) {
+            principal = loadLegacyPrincipal(claims.getSubject());
+            if (principal == null) {
+                return null;
+            }
+        }
+
+        tokenCache.put(token, principal, claims.getExpiration().getTime());
+        return principal;
+    }
+
+    // Tokens issued before the uid/hid claims existed only carry the email
+    private AuthenticatedUser loadLegacyPrincipal(String email) {
+        return userCache.findByEmail(email)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getHouseholdId()))
+                .orElse(null);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
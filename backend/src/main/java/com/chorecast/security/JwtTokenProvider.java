@@ -1,58 +1,137 @@
 package com.chorecast.security;
 
+import com.chorecast.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
-    
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String HOUSEHOLD_ID_CLAIM = "hid";
+    static final String STREAM_AUDIENCE = "household-stream";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
-    
+
     @Value("${jwt.expiration:86400000}") // Default to 24 hours if not set
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.stream-ticket-expiration:30000}")
+    private long streamTicketExpiration;
+
+    // Derived once: all are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private JwtParser streamTicketParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        streamTicketParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .requireAudience(STREAM_AUDIENCE)
+                .build();
     }
 
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
-                .subject(email)
+        JwtBuilder builder = Jwts.builder()
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId().toString())
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .expiration(expiryDate);
+        if (user.getHouseholdId() != null) {
+            builder.claim(HOUSEHOLD_ID_CLAIM, user.getHouseholdId().toString());
+        }
+
+        return builder.signWith(signingKey).compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Issues a ticket that only opens the household change stream. It is
+     * passed in the URL, so it expires after seconds rather than a day.
+     */
+    public String generateStreamTicket(AuthenticatedUser user) {
+        Date now = new Date();
+        JwtBuilder builder = Jwts.builder()
+                .subject(user.email())
+                .audience().add(STREAM_AUDIENCE).and()
+                .claim(USER_ID_CLAIM, user.id().toString())
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + streamTicketExpiration));
+        if (user.householdId() != null) {
+            builder.claim(HOUSEHOLD_ID_CLAIM, user.householdId().toString());
+        }
+        return builder.signWith(signingKey).compact();
+    }
 
-        return claims.getSubject();
+    public long getStreamTicketExpiration() {
+        return streamTicketExpiration;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the signature and expiry of the token in a single parse.
+     * Returns null when the token is malformed, expired, not signed by us,
+     * or a stream ticket.
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (claims.getAudience() != null && claims.getAudience().contains(STREAM_AUDIENCE)) {
+                return null;
+            }
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
+
+    // Null unless the ticket is a valid, unexpired stream ticket
+    public AuthenticatedUser parseStreamTicket(String ticket) {
+        try {
+            return toPrincipal(streamTicketParser.parseSignedClaims(ticket).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the principal from verified claims, or returns null for tokens
+     * issued before the id claims were introduced.
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+        String householdId = claims.get(HOUSEHOLD_ID_CLAIM, String.class);
+        return new AuthenticatedUser(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                householdId != null ? UUID.fromString(householdId) : null);
+    }
+
+    public String getEmailFromToken(String token) {
+        return jwtParser.parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
 }
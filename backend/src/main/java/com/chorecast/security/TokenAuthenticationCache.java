@@ -0,0 +1,85 @@
+package com.chorecast.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Maps the SHA-256 digest of an already verified token to the principal built
+ * from its claims, so a repeated token skips signature verification. Entries
+ * never outlive the token's own expiry and are capped at {@code jwt.cache.ttl}.
+ */
+@Component
+public class TokenAuthenticationCache {
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    public TokenAuthenticationCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${jwt.cache.ttl:5m}") Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtAuthentication");
+    }
+
+    public AuthenticatedUser get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(digest(token));
+        if (cached == null || cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return cached.principal();
+    }
+
+    public void put(String token, AuthenticatedUser principal, long expiresAtMillis) {
+        cache.put(digest(token), new CachedPrincipal(principal, expiresAtMillis));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedPrincipal(AuthenticatedUser principal, long expiresAtMillis) {
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long remainingNanos = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
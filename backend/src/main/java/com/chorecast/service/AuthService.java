@@ -4,16 +4,21 @@ import com.chorecast.dto.*;
 import com.chorecast.model.User;
 import com.chorecast.repository.UserRepository;
 import com.chorecast.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
+@Timed(value = "service.calls", description = "Service method calls by class and method")
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
@@ -24,10 +29,10 @@ public class AuthService {
                 .email(request.getEmail())
                 .passwordHash(passwordEncoder.encode(request.getPassword()))
                 .build();
-        
+
         user = userRepository.save(user);
-        String token = jwtTokenProvider.generateToken(user.getEmail());
-        
+        String token = jwtTokenProvider.generateToken(user);
+
         return createAuthResponse(token, user);
     }
 
@@ -35,24 +40,32 @@ public class AuthService {
         authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
-        
-        User user = userRepository.findByEmail(request.getEmail())
+
+        User user = userCache.findByEmail(request.getEmail())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        String token = jwtTokenProvider.generateToken(user);
+        return createAuthResponse(token, user);
+    }
+
+    public AuthResponse refreshToken(UUID userId) {
+        User user = userCache.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        String token = jwtTokenProvider.generateToken(user.getEmail());
+
+        String token = jwtTokenProvider.generateToken(user);
         return createAuthResponse(token, user);
     }
 
     private AuthResponse createAuthResponse(String token, User user) {
         AuthResponse response = new AuthResponse();
         response.setToken(token);
-        
+
         UserDTO userDTO = new UserDTO();
         userDTO.setId(user.getId());
         userDTO.setName(user.getName());
         userDTO.setEmail(user.getEmail());
         userDTO.setHouseholdId(user.getHouseholdId());
-        
+
         response.setUser(userDTO);
         return response;
     }
@@ -1,27 +1,105 @@
 package com.chorecast.service;
 
-import com.chorecast.model.Balance;
+import com.chorecast.dto.BalanceResponse;
+import com.chorecast.dto.SettlementTransfer;
+import com.chorecast.event.HouseholdChangeEvent;
 import com.chorecast.repository.BalanceRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
+@Timed(value = "service.calls", description = "Service method calls by class and method")
 public class BalanceService {
     private final BalanceRepository balanceRepository;
+    private final Cache<UUID, List<SettlementTransfer>> simplifiedDebts;
 
-    public List<Balance> getHouseholdBalances(UUID householdId) {
-        return balanceRepository.findByHouseholdId(householdId);
+    public BalanceService(BalanceRepository balanceRepository,
+                          @Value("${app.balances.simplified-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${app.balances.simplified-cache.ttl:10m}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.balanceRepository = balanceRepository;
+        this.simplifiedDebts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, simplifiedDebts, "simplifiedDebts");
     }
 
-    public List<Balance> getUserDebts(UUID userId) {
-        return balanceRepository.findByUserFrom(userId);
+    @Transactional(readOnly = true)
+    public List<BalanceResponse> getHouseholdBalances(UUID householdId) {
+        return balanceRepository.findCurrentByHouseholdId(householdId);
     }
 
-    public List<Balance> getUserCredits(UUID userId) {
-        return balanceRepository.findByUserTo(userId);
+    @Transactional(readOnly = true)
+    public List<BalanceResponse> getUserDebts(UUID userId) {
+        return balanceRepository.findCurrentByUserFrom(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BalanceResponse> getUserCredits(UUID userId) {
+        return balanceRepository.findCurrentByUserTo(userId);
+    }
+
+    public List<SettlementTransfer> getSimplifiedDebts(UUID householdId) {
+        return simplifiedDebts.get(householdId, id -> simplify(getHouseholdBalances(id)));
+    }
+
+    @Transactional
+    public int snapshotHousehold(UUID householdId) {
+        return balanceRepository.foldLedger(householdId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHouseholdChange(HouseholdChangeEvent event) {
+        simplifiedDebts.invalidate(event.householdId());
+    }
+
+    private static List<SettlementTransfer> simplify(List<BalanceResponse> balances) {
+        Map<UUID, Integer> indexes = new HashMap<>();
+        List<UUID> members = new ArrayList<>();
+        for (BalanceResponse balance : balances) {
+            register(balance.getUserFrom(), indexes, members);
+            register(balance.getUserTo(), indexes, members);
+        }
+
+        long[] net = new long[members.size()];
+        for (BalanceResponse balance : balances) {
+            long cents = balance.getAmount().movePointRight(2).longValueExact();
+            net[indexes.get(balance.getUserFrom())] -= cents;
+            net[indexes.get(balance.getUserTo())] += cents;
+        }
+
+        DebtSimplifier.Transfers transfers = DebtSimplifier.simplify(net);
+        List<SettlementTransfer> result = new ArrayList<>(transfers.count());
+        for (int i = 0; i < transfers.count(); i++) {
+            result.add(new SettlementTransfer(
+                    members.get(transfers.from()[i]),
+                    members.get(transfers.to()[i]),
+                    BigDecimal.valueOf(transfers.cents()[i], 2)));
+        }
+        return List.copyOf(result);
+    }
+
+    private static void register(UUID userId, Map<UUID, Integer> indexes, List<UUID> members) {
+        if (!indexes.containsKey(userId)) {
+            indexes.put(userId, members.size());
+            members.add(userId);
+        }
     }
 }
@@ -1,72 +1,137 @@
 package com.chorecast.service;
 
+import com.chorecast.dto.ChoreFilter;
 import com.chorecast.dto.ChoreRequest;
 import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.PageCursor;
+import com.chorecast.dto.PageResponse;
+import com.chorecast.event.HouseholdChangeEvent;
 import com.chorecast.model.Chore;
+import com.chorecast.repository.ChoreDueTime;
 import com.chorecast.repository.ChoreRepository;
+import com.chorecast.repository.ChoreReset;
+import com.chorecast.scheduler.ChoresRescheduledEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.calls", description = "Service method calls by class and method")
 @RequiredArgsConstructor
 public class ChoreService {
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ChoreRepository choreRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public ChoreResponse createChore(ChoreRequest request, UUID householdId) {
         LocalDateTime now = LocalDateTime.now();
-        int daysToAdd = switch (request.getFrequency()) {
-            case DAILY -> 1;
-            case WEEKLY -> 7;
-            case MONTHLY -> 30;
-            default -> 7;
-        };
-        
         Chore chore = Chore.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .frequency(request.getFrequency())
                 .assignedTo(request.getAssignedTo())
                 .lastDone(now)
-                .nextDue(now.plusDays(daysToAdd))
+                .nextDue(nextDue(request.getFrequency(), now))
                 .completed(false)
                 .householdId(householdId)
                 .build();
         
         chore = choreRepository.save(chore);
+        eventPublisher.publishEvent(new ChoresRescheduledEvent(List.of(dueTime(chore))));
+        eventPublisher.publishEvent(new HouseholdChangeEvent(householdId, HouseholdChangeEvent.Type.CHORE_CREATED,
+                List.of(chore.getId())));
         return mapToResponse(chore);
     }
 
+    @Transactional(readOnly = true)
     public List<ChoreResponse> getHouseholdChores(UUID householdId) {
-        return choreRepository.findByHouseholdId(householdId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return choreRepository.findResponsesByHouseholdId(householdId);
     }
 
-    public ChoreResponse completeChore(UUID choreId) {
-        Chore chore = choreRepository.findById(choreId)
-                .orElseThrow(() -> new RuntimeException("Chore not found"));
+    @Transactional(readOnly = true)
+    public List<ChoreResponse> getHouseholdChoresById(UUID householdId, Collection<UUID> choreIds) {
+        if (choreIds.isEmpty()) {
+            return List.of();
+        }
+        return choreRepository.findResponsesByHouseholdIdAndIdIn(householdId, choreIds);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ChoreResponse> getHouseholdChorePage(UUID householdId, ChoreFilter filter,
+                                                             String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ChoreResponse> chores =
+                choreRepository.findPage(householdId, filter, PageCursor.decode(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (chores.size() > pageSize) {
+            chores = chores.subList(0, pageSize);
+            ChoreResponse last = chores.get(pageSize - 1);
+            nextCursor = new PageCursor(last.getNextDue(), last.getId()).encode();
+        }
+        return new PageResponse<>(chores, nextCursor);
+    }
+
+    // Another household's chore is not found, the same as an unknown id
+    @Transactional
+    public ChoreResponse completeChore(UUID choreId, UUID householdId) {
+        Chore chore = choreRepository.findByIdAndHouseholdId(choreId, householdId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Chore not found"));
         
         LocalDateTime now = LocalDateTime.now();
-        int daysToAdd = switch (chore.getFrequency()) {
-            case DAILY -> 1;
-            case WEEKLY -> 7;
-            case MONTHLY -> 30;
-            default -> 7;
-        };
-        
         chore.setCompleted(true);
         chore.setLastDone(now);
-        chore.setNextDue(now.plusDays(daysToAdd));
+        chore.setNextDue(nextDue(chore.getFrequency(), now));
         
         chore = choreRepository.save(chore);
+        eventPublisher.publishEvent(new ChoresRescheduledEvent(List.of(dueTime(chore))));
+        eventPublisher.publishEvent(new HouseholdChangeEvent(chore.getHouseholdId(),
+                HouseholdChangeEvent.Type.CHORE_COMPLETED, List.of(chore.getId())));
         return mapToResponse(chore);
     }
 
+    /**
+     * Marks the completed recurring chores of the given shards as open again
+     * and tells each affected household, like any other chore write.
+     */
+    @Transactional
+    public int resetCompletedChores(LocalDateTime now, int shardCount, Set<Integer> shards) {
+        List<ChoreReset> reset = choreRepository.resetCompletedChoresDueBefore(now, shardCount, shards);
+        Map<UUID, List<UUID>> byHousehold = reset.stream().collect(Collectors.groupingBy(ChoreReset::getHouseholdId,
+                Collectors.mapping(ChoreReset::getId, Collectors.toList())));
+        byHousehold.forEach((householdId, choreIds) -> eventPublisher.publishEvent(
+                new HouseholdChangeEvent(householdId, HouseholdChangeEvent.Type.CHORE_RESET, choreIds)));
+        return reset.size();
+    }
+
+    static LocalDateTime nextDue(Chore.Frequency frequency, LocalDateTime from) {
+        int daysToAdd = switch (frequency) {
+            case DAILY -> 1;
+            case WEEKLY -> 7;
+            case MONTHLY -> 30;
+            default -> 7;
+        };
+        return from.plusDays(daysToAdd);
+    }
+
+    static ChoreDueTime dueTime(Chore chore) {
+        return new ChoreDueTime(chore.getId(), chore.getHouseholdId(), chore.getNextDue(), chore.getCompleted());
+    }
+
     private ChoreResponse mapToResponse(Chore chore) {
         ChoreResponse response = new ChoreResponse();
         response.setId(chore.getId());
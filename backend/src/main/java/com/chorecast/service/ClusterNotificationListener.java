@@ -0,0 +1,108 @@
+package com.chorecast.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Holds a dedicated connection outside the pool that LISTENs for household
+ * version bumps sent by any node. Notifications sent while disconnected are
+ * lost, so every version is dropped each time the connection is
+ * (re)established.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.cluster-notifications.listen", havingValue = "true", matchIfMissing = true)
+public class ClusterNotificationListener {
+    private static final int POLL_MILLIS = 1000;
+
+    private final HouseholdVersions householdVersions;
+    private final DataSourceProperties dataSourceProperties;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public ClusterNotificationListener(HouseholdVersions householdVersions,
+                                       DataSourceProperties dataSourceProperties,
+                                       @Value("${app.cluster-notifications.reconnect-delay:PT5S}")
+                                       Duration reconnectDelay) {
+        this.householdVersions = householdVersions;
+        this.dataSourceProperties = dataSourceProperties;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("cluster-notification-listener").start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + HouseholdVersions.CHANNEL);
+                }
+                householdVersions.invalidateAll();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cluster notification listener disconnected, retrying in {}: {}",
+                            reconnectDelay, e.getMessage());
+                    householdVersions.invalidateAll();
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        switch (notification.getName()) {
+            case HouseholdVersions.CHANNEL -> householdVersions.onNotification(notification.getParameter());
+            default -> log.warn("Ignoring notification on unknown channel {}", notification.getName());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.chorecast.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time, so a body of any size is parsed in
+ * constant memory. Fields may be quoted, with {@code ""} for a quote and line
+ * breaks inside quotes; records end with LF or CRLF. Blank lines are skipped.
+ */
+public final class CsvReader {
+    // Far beyond any real row; an unterminated quote would otherwise swallow the rest of the body
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int pushedBack = NONE;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The next record's fields, or null at the end of the input.
+     *
+     * @throws ResponseStatusException with BAD_REQUEST if a quoted field is not closed or a record is too long
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            endLine(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw invalid("record is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw invalid("quoted field is not closed");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                endLine(c);
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * The line the last record returned by {@link #next()} started on, counting from 1.
+     */
+    public long line() {
+        return recordLine;
+    }
+
+    // Consumes the LF of a CRLF
+    private void endLine(int c) throws IOException {
+        if (c == '\r') {
+            int n = read();
+            if (n != '\n') {
+                pushedBack = n;
+            }
+        }
+        if (c != -1) {
+            line++;
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private ResponseStatusException invalid(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "line " + recordLine + ": " + reason);
+    }
+}
@@ -0,0 +1,132 @@
+package com.chorecast.service;
+
+import com.chorecast.dto.DashboardResponse;
+import com.chorecast.dto.UserDTO;
+import com.chorecast.monitoring.QueryStats;
+import com.chorecast.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    private final ChoreService choreService;
+    private final ExpenseService expenseService;
+    private final BalanceService balanceService;
+    private final UserCache userCache;
+
+    public enum Section {
+        CHORES, EXPENSES, BALANCES, USERS;
+
+        public static Set<Section> parse(Collection<String> names) {
+            if (names == null || names.isEmpty()) {
+                return EnumSet.allOf(Section.class);
+            }
+            Set<Section> sections = EnumSet.noneOf(Section.class);
+            for (String name : names) {
+                try {
+                    sections.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown dashboard section: " + name);
+                }
+            }
+            return sections;
+        }
+    }
+
+    /**
+     * Loads the requested sections concurrently, one virtual thread each, so
+     * the response takes as long as the slowest query rather than their sum.
+     * Sections are collected in the order they finish, so the first failure
+     * interrupts the queries still running and is rethrown without waiting
+     * for them. The scope closes only after every query has stopped.
+     */
+    public DashboardResponse getDashboard(AuthenticatedUser user, Set<Section> sections) {
+        Map<Future<List<?>>, Section> pending = new HashMap<>();
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<List<?>> completed = new ExecutorCompletionService<>(scope);
+            for (Section section : sections) {
+                pending.put(completed.submit(QueryStats.propagate(load(section, user))), section);
+            }
+
+            DashboardResponse response = new DashboardResponse();
+            while (!pending.isEmpty()) {
+                Future<List<?>> result = take(completed, scope);
+                Section section = pending.remove(result);
+                List<?> items = join(result, scope);
+                switch (section) {
+                    case CHORES -> response.setChores(cast(items));
+                    case EXPENSES -> response.setExpenses(cast(items));
+                    case BALANCES -> response.setBalances(cast(items));
+                    case USERS -> response.setUsers(cast(items));
+                }
+            }
+            return response;
+        }
+    }
+
+    private Callable<List<?>> load(Section section, AuthenticatedUser user) {
+        return switch (section) {
+            case CHORES -> () -> choreService.getHouseholdChores(user.householdId());
+            case EXPENSES -> () -> expenseService.getHouseholdExpenses(user.householdId());
+            case BALANCES -> () -> balanceService.getHouseholdBalances(user.householdId());
+            case USERS -> () -> getHouseholdMembers(user);
+        };
+    }
+
+    private List<UserDTO> getHouseholdMembers(AuthenticatedUser user) {
+        return userCache.findByHouseholdId(user.householdId()).stream()
+                .map(UserDTO::from)
+                .collect(Collectors.toList());
+    }
+
+    private static Future<List<?>> take(CompletionService<List<?>> completed, ExecutorService scope) {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            scope.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dashboard", e);
+        }
+    }
+
+    // Only called for a future that has completed, so get() does not block
+    private static List<?> join(Future<List<?>> future, ExecutorService scope) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            scope.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dashboard", e);
+        } catch (ExecutionException e) {
+            scope.shutdownNow();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Dashboard section failed", e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> items) {
+        return (List<T>) items;
+    }
+}
@@ -0,0 +1,126 @@
+package com.chorecast.service;
+
+/**
+ * Reduces a household's pairwise debts to at most n - 1 transfers: each
+ * member's position is netted, then the largest creditor is repeatedly paid by
+ * the largest debtor. Works on primitive cents and index heaps, so a household
+ * of a few hundred members is simplified in microseconds.
+ */
+public final class DebtSimplifier {
+
+    private DebtSimplifier() {
+    }
+
+    /**
+     * @param net cents per member: positive when the member is owed money,
+     *            negative when they owe it. Not modified.
+     */
+    public static Transfers simplify(long[] net) {
+        int n = net.length;
+        long[] remaining = net.clone();
+        IndexHeap creditors = new IndexHeap(remaining, 1);
+        IndexHeap debtors = new IndexHeap(remaining, -1);
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] > 0) {
+                creditors.push(i);
+            } else if (remaining[i] < 0) {
+                debtors.push(i);
+            }
+        }
+
+        // Every transfer settles at least one member, so n slots always suffice
+        int[] from = new int[n];
+        int[] to = new int[n];
+        long[] cents = new long[n];
+        int count = 0;
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            int creditor = creditors.pop();
+            int debtor = debtors.pop();
+            long amount = Math.min(remaining[creditor], -remaining[debtor]);
+
+            from[count] = debtor;
+            to[count] = creditor;
+            cents[count] = amount;
+            count++;
+
+            remaining[creditor] -= amount;
+            remaining[debtor] += amount;
+            if (remaining[creditor] > 0) {
+                creditors.push(creditor);
+            }
+            if (remaining[debtor] < 0) {
+                debtors.push(debtor);
+            }
+        }
+        return new Transfers(from, to, cents, count);
+    }
+
+    /**
+     * The first {@code count} entries of each array describe one transfer of
+     * {@code cents[i]} from member {@code from[i]} to member {@code to[i]}.
+     */
+    public record Transfers(int[] from, int[] to, long[] cents, int count) {
+    }
+
+    /**
+     * Binary max-heap of member indexes ordered by {@code sign * keys[index]}.
+     * Keys only change while an index is popped, so the heap stays valid.
+     */
+    private static final class IndexHeap {
+        private final long[] keys;
+        private final int sign;
+        private final int[] heap;
+        private int size;
+
+        IndexHeap(long[] keys, int sign) {
+            this.keys = keys;
+            this.sign = sign;
+            this.heap = new int[keys.length];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int index) {
+            int child = size++;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (key(heap[parent]) >= key(index)) {
+                    break;
+                }
+                heap[child] = heap[parent];
+                child = parent;
+            }
+            heap[child] = index;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int last = heap[--size];
+            int parent = 0;
+            while (true) {
+                int child = 2 * parent + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && key(heap[child + 1]) > key(heap[child])) {
+                    child++;
+                }
+                if (key(last) >= key(heap[child])) {
+                    break;
+                }
+                heap[parent] = heap[child];
+                parent = child;
+            }
+            if (size > 0) {
+                heap[parent] = last;
+            }
+            return top;
+        }
+
+        private long key(int index) {
+            return sign * keys[index];
+        }
+    }
+}
@@ -3,45 +3,255 @@ package com.chorecast.service;
 import com.chorecast.model.Reminder;
 import com.chorecast.model.User;
 import com.chorecast.repository.ReminderRepository;
-import lombok.RequiredArgsConstructor;
+import com.chorecast.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Sends reminder emails. Publishes email.send (time per SMTP send, tagged
+ * {@code outcome}), email.messages (reminders by {@code result}: sent,
+ * retried or dead) and email.failures (failed messages by exception
+ * {@code reason}).
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EmailService {
+    private static final String REMINDER_SUBJECT = "ChoreCast Reminder";
+    private static final String RECIPIENT_NOT_FOUND = "RecipientNotFound";
+
     private final JavaMailSender mailSender;
     private final ReminderRepository reminderRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final String from;
+
+    public EmailService(JavaMailSender mailSender,
+                        ReminderRepository reminderRepository,
+                        UserRepository userRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.email.batch-size:200}") int batchSize,
+                        @Value("${app.email.concurrency:8}") int concurrency,
+                        @Value("${app.email.max-attempts:5}") int maxAttempts,
+                        @Value("${app.email.initial-backoff:1m}") Duration initialBackoff,
+                        @Value("${app.email.max-backoff:1h}") Duration maxBackoff,
+                        @Value("${app.email.lease:10m}") Duration lease,
+                        @Value("${app.email.from:chorecast@noreply.com}") String from) {
+        this.mailSender = mailSender;
+        this.reminderRepository = reminderRepository;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.from = from;
+    }
 
     public void sendReminder(User user, String subject, String message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            SimpleMailMessage mailMessage = new SimpleMailMessage();
-            mailMessage.setTo(user.getEmail());
-            mailMessage.setSubject(subject);
-            mailMessage.setText(message);
-            mailMessage.setFrom("chorecast@noreply.com");
-            
-            mailSender.send(mailMessage);
+            mailSender.send(toMessage(user, subject, message));
+            sample.stop(sendTimer("success"));
             log.info("Reminder email sent to {}", user.getEmail());
         } catch (Exception e) {
+            sample.stop(sendTimer("failure"));
+            failures(e.getClass().getSimpleName()).increment();
             log.error("Failed to send email to {}: {}", user.getEmail(), e.getMessage());
         }
     }
 
-    public void sendDueReminders() {
-        List<Reminder> dueReminders = reminderRepository.findByDueDateBeforeAndSentFalse(LocalDateTime.now());
-        
-        for (Reminder reminder : dueReminders) {
-            // In a real app, fetch user and send email
-            log.info("Sending reminder: {}", reminder.getMessage());
-            reminder.setSent(true);
-            reminderRepository.save(reminder);
+    /**
+     * Delivers every reminder that is due, one claimed batch at a time, and
+     * returns how many were sent. Failed sends are rescheduled with exponential
+     * backoff until {@code app.email.max-attempts}, then marked DEAD.
+     */
+    public int sendDueReminders() {
+        int delivered = 0;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Reminder> batch = reminderRepository.claimDue(now, now.plus(lease), batchSize);
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+            delivered += deliver(batch);
+            if (batch.size() < batchSize) {
+                return delivered;
+            }
         }
     }
+
+    private int deliver(List<Reminder> batch) {
+        Map<UUID, User> recipients = userRepository.findAllById(
+                        batch.stream().map(Reminder::getUserId).distinct().toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // Keyed by identity: two reminders with the same text produce equal messages
+        Map<SimpleMailMessage, Reminder> outgoing = new IdentityHashMap<>();
+        for (Reminder reminder : batch) {
+            User user = recipients.get(reminder.getUserId());
+            if (user == null) {
+                reminderRepository.markDead(reminder.getId(), "Recipient " + reminder.getUserId() + " not found");
+                failures(RECIPIENT_NOT_FOUND).increment();
+                messages("dead").increment();
+                continue;
+            }
+            outgoing.put(toMessage(user, REMINDER_SUBJECT, reminder.getMessage()), reminder);
+        }
+
+        Map<Object, Exception> failures = send(new ArrayList<>(outgoing.keySet()));
+
+        List<UUID> sent = new ArrayList<>();
+        outgoing.forEach((message, reminder) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                sent.add(reminder.getId());
+            } else {
+                reschedule(reminder, failure);
+            }
+        });
+        if (!sent.isEmpty()) {
+            reminderRepository.markSent(sent);
+            messages("sent").increment(sent.size());
+        }
+        return sent.size();
+    }
+
+    /**
+     * Splits the messages into at most {@code app.email.concurrency} chunks and
+     * sends each chunk from its own virtual thread. A chunk goes out over a
+     * single SMTP connection, so the cap also bounds open connections. A chunk
+     * that throws counts as failed in full; the other chunks' results stand.
+     */
+    private Map<Object, Exception> send(List<SimpleMailMessage> messages) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        int chunkSize = (messages.size() + concurrency - 1) / concurrency;
+        Map<List<SimpleMailMessage>, Future<Map<Object, Exception>>> results = new IdentityHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int start = 0; start < messages.size(); start += chunkSize) {
+                List<SimpleMailMessage> chunk = messages.subList(start, Math.min(start + chunkSize, messages.size()));
+                results.put(chunk, executor.submit(() -> sendChunk(chunk)));
+            }
+        }
+
+        results.forEach((chunk, result) -> {
+            try {
+                failures.putAll(result.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while sending reminders", e);
+            } catch (ExecutionException e) {
+                log.error("Sending {} reminders failed", chunk.size(), e.getCause());
+                Exception failure = e.getCause() instanceof Exception cause ? cause : e;
+                for (SimpleMailMessage message : chunk) {
+                    failures.put(message, failure);
+                }
+            }
+        });
+        return failures;
+    }
+
+    private Map<Object, Exception> sendChunk(List<SimpleMailMessage> chunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Object, Exception> failed;
+        try {
+            mailSender.send(chunk.toArray(SimpleMailMessage[]::new));
+            failed = Map.of();
+        } catch (MailSendException e) {
+            // Keys are the original messages; an empty map means only closing the connection failed
+            failed = e.getFailedMessages();
+        } catch (MailException e) {
+            failed = new IdentityHashMap<>();
+            for (SimpleMailMessage message : chunk) {
+                failed.put(message, e);
+            }
+        }
+        sample.stop(sendTimer(failed.isEmpty() ? "success" : "failure"));
+        return failed;
+    }
+
+    private void reschedule(Reminder reminder, Exception failure) {
+        String error = failure.getMessage();
+        failures(failure.getClass().getSimpleName()).increment();
+        if (reminder.getAttempts() >= maxAttempts) {
+            log.warn("Giving up on reminder {} after {} attempts: {}", reminder.getId(), reminder.getAttempts(), error);
+            reminderRepository.markDead(reminder.getId(), error);
+            messages("dead").increment();
+        } else {
+            reminderRepository.markForRetry(reminder.getId(), LocalDateTime.now().plus(backoff(reminder.getAttempts())),
+                    error);
+            messages("retried").increment();
+        }
+    }
+
+    // initial-backoff doubled for every attempt already made, capped at max-backoff
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    // One SMTP connection's worth of messages, or a single message from sendReminder
+    private Timer sendTimer(String outcome) {
+        return Timer.builder("email.send")
+                .description("Time to hand messages to the SMTP server")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter messages(String result) {
+        return Counter.builder("email.messages")
+                .description("Reminders sent, rescheduled or given up on")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // Reasons are exception class names, a small fixed set
+    private Counter failures(String reason) {
+        return Counter.builder("email.failures")
+                .description("Messages that failed to send")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private SimpleMailMessage toMessage(User user, String subject, String text) {
+        SimpleMailMessage mailMessage = new SimpleMailMessage();
+        mailMessage.setTo(user.getEmail());
+        mailMessage.setSubject(subject);
+        mailMessage.setText(text);
+        mailMessage.setFrom(from);
+        return mailMessage;
+    }
 }
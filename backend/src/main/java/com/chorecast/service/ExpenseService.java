@@ -1,101 +1,229 @@
 package com.chorecast.service;
 
+import com.chorecast.dto.ExpenseFilter;
 import com.chorecast.dto.ExpenseRequest;
 import com.chorecast.dto.ExpenseResponse;
-import com.chorecast.model.Balance;
+import com.chorecast.dto.ExpenseTotalResponse;
+import com.chorecast.dto.PageCursor;
+import com.chorecast.dto.PageResponse;
+import com.chorecast.event.HouseholdChangeEvent;
 import com.chorecast.model.Expense;
-import com.chorecast.repository.BalanceRepository;
+import com.chorecast.model.ExpenseParticipant;
+import com.chorecast.model.LedgerEntry;
+import com.chorecast.repository.ExpenseParticipantRepository;
 import com.chorecast.repository.ExpenseRepository;
+import com.chorecast.repository.LedgerEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.calls", description = "Service method calls by class and method")
 @RequiredArgsConstructor
 public class ExpenseService {
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ExpenseRepository expenseRepository;
-    private final BalanceRepository balanceRepository;
+    private final ExpenseParticipantRepository expenseParticipantRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ExpenseResponse createExpense(ExpenseRequest request, UUID householdId) {
-        Expense expense = Expense.builder()
-                .description(request.getDescription())
-                .amount(request.getAmount())
-                .payerId(request.getPayerId())
-                .participants(request.getParticipants())
-                .settled(false)
-                .householdId(householdId)
-                .build();
-        
-        expense = expenseRepository.save(expense);
-        
-        // Calculate and update balances
-        updateBalances(expense);
-        
-        return mapToResponse(expense);
+        return createExpenses(List.of(request), householdId).get(0);
     }
 
-    public List<ExpenseResponse> getHouseholdExpenses(UUID householdId) {
-        return expenseRepository.findByHouseholdId(householdId).stream()
+    /**
+     * Balances are never updated in place here: each participant's share is
+     * appended to the ledger and folded into the balances projection later.
+     */
+    @Transactional
+    public List<ExpenseResponse> createExpenses(List<ExpenseRequest> requests, UUID householdId) {
+        // Validates every request before anything is written
+        List<ExpenseSplitter.Split> splits = requests.stream().map(ExpenseSplitter::split).toList();
+        List<Expense> expenses = requests.stream()
+                .map(request -> Expense.builder()
+                        .description(request.getDescription())
+                        .amount(request.getAmount())
+                        .payerId(request.getPayerId())
+                        .participants(request.getParticipants())
+                        .settled(false)
+                        .householdId(householdId)
+                        .build())
+                .toList();
+
+        // Flushed so created_at is generated before it is copied into expense_participants
+        expenses = expenseRepository.saveAllAndFlush(expenses);
+
+        List<ExpenseParticipant> participants = participants(expenses, splits);
+        expenseParticipantRepository.append(participants);
+        ledgerEntryRepository.append(ledgerEntries(participants, payers(expenses), LedgerEntry.EntryType.CHARGE));
+        eventPublisher.publishEvent(new HouseholdChangeEvent(householdId, HouseholdChangeEvent.Type.EXPENSE_CREATED,
+                expenses.stream().map(Expense::getId).toList()));
+
+        return expenses.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<ExpenseResponse> getHouseholdExpenses(UUID householdId) {
+        return expenseRepository.findResponsesByHouseholdId(householdId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExpenseResponse> getHouseholdExpensesById(UUID householdId, Collection<UUID> expenseIds) {
+        if (expenseIds.isEmpty()) {
+            return List.of();
+        }
+        return expenseRepository.findResponsesByHouseholdIdAndIdIn(householdId, expenseIds);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ExpenseResponse> getHouseholdExpensePage(UUID householdId, ExpenseFilter filter,
+                                                                 String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ExpenseResponse> expenses =
+                expenseRepository.findPage(householdId, filter, PageCursor.decode(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (expenses.size() > pageSize) {
+            expenses = expenses.subList(0, pageSize);
+            ExpenseResponse last = expenses.get(pageSize - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new PageResponse<>(expenses, nextCursor);
+    }
+
+    // Expenses the user paid for or shares in, newest first
+    @Transactional(readOnly = true)
+    public PageResponse<ExpenseResponse> getUserExpensePage(UUID householdId, UUID userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ExpenseResponse> expenses = expenseRepository.findParticipantPage(householdId, userId,
+                PageCursor.decode(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (expenses.size() > pageSize) {
+            expenses = expenses.subList(0, pageSize);
+            ExpenseResponse last = expenses.get(pageSize - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new PageResponse<>(expenses, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExpenseTotalResponse> getHouseholdTotals(UUID householdId, Boolean settled) {
+        return expenseParticipantRepository.findTotalsByHouseholdId(householdId, settled);
+    }
+
     @Transactional
-    public void settleExpense(UUID expenseId) {
-        Expense expense = expenseRepository.findById(expenseId)
-                .orElseThrow(() -> new RuntimeException("Expense not found"));
-        
-        expense.setSettled(true);
-        expenseRepository.save(expense);
-        
-        // Clear related balances
-        clearBalances(expense);
+    public void settleExpense(UUID expenseId, UUID householdId) {
+        if (!expenseRepository.existsByIdAndHouseholdId(expenseId, householdId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Expense not found");
+        }
+        settleExpenses(List.of(expenseId), householdId);
+    }
+
+    // Ids from other households are ignored like already settled ones
+    @Transactional
+    public void settleExpenses(Collection<UUID> expenseIds, UUID householdId) {
+        settle(expenseRepository.findByHouseholdIdAndIdInAndSettledFalse(householdId, expenseIds));
+    }
+
+    // Callers pass rows locked FOR UPDATE, so two settles cannot both reverse the same expense
+    private void settle(List<Expense> expenses) {
+        expenses.forEach(expense -> expense.setSettled(true));
+        expenseRepository.saveAll(expenses);
+
+        // Reverse exactly what was charged; expenses from before the ledger reverse their stored shares
+        Set<UUID> reversed = ledgerEntryRepository.reverseCharges(expenses);
+        List<Expense> unledgered = expenses.stream()
+                .filter(expense -> !reversed.contains(expense.getId()))
+                .toList();
+        if (!unledgered.isEmpty()) {
+            ledgerEntryRepository.append(ledgerEntries(
+                    expenseParticipantRepository.findByExpenseIdIn(unledgered.stream().map(Expense::getId).toList()),
+                    payers(unledgered), LedgerEntry.EntryType.REVERSAL));
+        }
+
+        Map<UUID, List<UUID>> settledByHousehold = expenses.stream()
+                .collect(Collectors.groupingBy(Expense::getHouseholdId,
+                        Collectors.mapping(Expense::getId, Collectors.toList())));
+        settledByHousehold.forEach((householdId, expenseIds) -> eventPublisher.publishEvent(
+                new HouseholdChangeEvent(householdId, HouseholdChangeEvent.Type.EXPENSE_SETTLED, expenseIds)));
     }
 
-    private void updateBalances(Expense expense) {
-        BigDecimal splitAmount = expense.getAmount()
-                .divide(BigDecimal.valueOf(expense.getParticipants().size()), 2, RoundingMode.HALF_UP);
-        
-        for (UUID participantId : expense.getParticipants()) {
-            if (!participantId.equals(expense.getPayerId())) {
-                Balance balance = balanceRepository.findByUserFromAndUserTo(participantId, expense.getPayerId())
-                        .orElse(Balance.builder()
-                                .userFrom(participantId)
-                                .userTo(expense.getPayerId())
-                                .amount(BigDecimal.ZERO)
-                                .householdId(expense.getHouseholdId())
-                                .build());
-                
-                balance.setAmount(balance.getAmount().add(splitAmount));
-                balanceRepository.save(balance);
+    /**
+     * One row per participant with their share in whole cents, plus the payer.
+     * The ledger charges are built from these rows, and settling reverses the
+     * charges, never a recomputed split.
+     */
+    static List<ExpenseParticipant> participants(List<Expense> expenses, List<ExpenseSplitter.Split> splits) {
+        List<ExpenseParticipant> rows = new ArrayList<>();
+        for (int e = 0; e < expenses.size(); e++) {
+            Expense expense = expenses.get(e);
+            ExpenseSplitter.Split split = splits.get(e);
+            Map<UUID, ExpenseParticipant> byUser = new LinkedHashMap<>();
+            for (int i = 0; i < split.participants().size(); i++) {
+                ExpenseParticipant row = participant(expense, split.participants().get(i));
+                row.setShareCents(split.shareCents()[i]);
+                byUser.put(row.getUserId(), row);
             }
+            byUser.computeIfAbsent(expense.getPayerId(), id -> participant(expense, id))
+                    .setPaidCents(split.amountCents());
+            rows.addAll(byUser.values());
         }
+        return rows;
     }
 
-    private void clearBalances(Expense expense) {
-        BigDecimal splitAmount = expense.getAmount()
-                .divide(BigDecimal.valueOf(expense.getParticipants().size()), 2, RoundingMode.HALF_UP);
-        
-        for (UUID participantId : expense.getParticipants()) {
-            if (!participantId.equals(expense.getPayerId())) {
-                balanceRepository.findByUserFromAndUserTo(participantId, expense.getPayerId())
-                        .ifPresent(balance -> {
-                            balance.setAmount(balance.getAmount().subtract(splitAmount));
-                            if (balance.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
-                                balanceRepository.delete(balance);
-                            } else {
-                                balanceRepository.save(balance);
-                            }
-                        });
+    private static ExpenseParticipant participant(Expense expense, UUID userId) {
+        return ExpenseParticipant.builder()
+                .expenseId(expense.getId())
+                .userId(userId)
+                .householdId(expense.getHouseholdId())
+                .shareCents(0L)
+                .paidCents(0L)
+                .createdAt(expense.getCreatedAt())
+                .build();
+    }
+
+    // Every participant other than the payer owes the payer their share
+    private static List<LedgerEntry> ledgerEntries(Collection<ExpenseParticipant> participants,
+                                                   Map<UUID, UUID> payers, LedgerEntry.EntryType entryType) {
+        long sign = entryType == LedgerEntry.EntryType.CHARGE ? 1 : -1;
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (ExpenseParticipant participant : participants) {
+            UUID payerId = payers.get(participant.getExpenseId());
+            if (participant.getShareCents() == 0 || participant.getUserId().equals(payerId)) {
+                continue;
             }
+            entries.add(LedgerEntry.builder()
+                    .householdId(participant.getHouseholdId())
+                    .expenseId(participant.getExpenseId())
+                    .userFrom(participant.getUserId())
+                    .userTo(payerId)
+                    .amount(Money.fromCents(sign * participant.getShareCents()))
+                    .entryType(entryType)
+                    .build());
         }
+        return entries;
+    }
+
+    private static Map<UUID, UUID> payers(List<Expense> expenses) {
+        return expenses.stream().collect(Collectors.toMap(Expense::getId, Expense::getPayerId));
     }
 
     private ExpenseResponse mapToResponse(Expense expense) {
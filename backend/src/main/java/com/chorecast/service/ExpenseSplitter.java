@@ -0,0 +1,164 @@
+package com.chorecast.service;
+
+import com.chorecast.dto.ExpenseRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Validates an expense request and works out every participant's share in
+ * cents. Each split type reduces to long arithmetic: weights and percentages
+ * are scaled to integers and allocated by {@link Money#allocate}, so the
+ * shares always add up to the amount.
+ */
+public final class ExpenseSplitter {
+    // 12.5 m² or 0.3333 of the rent, but not finer
+    private static final int MAX_WEIGHT_SCALE = 4;
+    private static final long HUNDRED_PERCENT = 10_000;
+    // expenses.amount is numeric(10,2)
+    private static final long MAX_AMOUNT_CENTS = 9_999_999_999L;
+
+    private ExpenseSplitter() {
+    }
+
+    /**
+     * Participants and their shares at the same positions. {@code participants}
+     * holds no duplicates.
+     */
+    public record Split(List<UUID> participants, long amountCents, long[] shareCents) {
+    }
+
+    /**
+     * @throws ResponseStatusException with BAD_REQUEST if the request does not describe a valid split
+     */
+    public static Split split(ExpenseRequest request) {
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            throw invalid("amount must be positive");
+        }
+        long amountCents = cents(request.getAmount(), "amount");
+        if (amountCents > MAX_AMOUNT_CENTS) {
+            throw invalid("amount is too large");
+        }
+        if (request.getPayerId() == null) {
+            throw invalid("payerId is required");
+        }
+        List<UUID> participants = request.getParticipants();
+        if (participants == null || participants.isEmpty() || participants.stream().anyMatch(Objects::isNull)) {
+            throw invalid("participants must list at least one user");
+        }
+
+        ExpenseRequest.SplitType type = request.getSplitType() == null
+                ? ExpenseRequest.SplitType.EQUAL : request.getSplitType();
+        List<BigDecimal> values = request.getSplitValues();
+        if (type == ExpenseRequest.SplitType.EQUAL) {
+            if (values != null && !values.isEmpty()) {
+                throw invalid("splitValues are not used by an EQUAL split");
+            }
+            // A participant listed twice still gets one share
+            List<UUID> members = participants.stream().distinct().toList();
+            long[] shares = new long[members.size()];
+            Money.splitEvenly(amountCents, shares, shares.length);
+            return new Split(members, amountCents, shares);
+        }
+
+        int count = participants.size();
+        if (values == null || values.size() != count) {
+            throw invalid(type + " split needs one split value per participant");
+        }
+        if (new HashSet<>(participants).size() != count) {
+            throw invalid("participants must not repeat in a " + type + " split");
+        }
+        for (BigDecimal value : values) {
+            if (value == null || value.signum() < 0) {
+                throw invalid("splitValues must not be empty or negative");
+            }
+        }
+
+        long[] shares = new long[count];
+        switch (type) {
+            case WEIGHTS -> {
+                int scale = decimalPlaces(values);
+                if (scale > MAX_WEIGHT_SCALE) {
+                    throw invalid("weights allow at most " + MAX_WEIGHT_SCALE + " decimal places");
+                }
+                long[] weights = scaled(values, scale, "weights");
+                if (sum(weights) == 0) {
+                    throw invalid("at least one weight must be positive");
+                }
+                try {
+                    Money.allocate(amountCents, weights, shares, count);
+                } catch (ArithmeticException e) {
+                    throw invalid("weights are too large");
+                }
+            }
+            case PERCENTAGES -> {
+                if (decimalPlaces(values) > 2) {
+                    throw invalid("percentages allow at most 2 decimal places");
+                }
+                long[] basisPoints = scaled(values, 2, "percentages");
+                if (sum(basisPoints) != HUNDRED_PERCENT) {
+                    throw invalid("percentages must add up to 100");
+                }
+                Money.allocate(amountCents, basisPoints, shares, count);
+            }
+            case EXACT -> {
+                for (int i = 0; i < count; i++) {
+                    shares[i] = cents(values.get(i), "exact amounts");
+                }
+                if (sum(shares) != amountCents) {
+                    throw invalid("exact amounts must add up to amount");
+                }
+            }
+            default -> throw new IllegalStateException("Unhandled split type " + type);
+        }
+        return new Split(List.copyOf(participants), amountCents, shares);
+    }
+
+    private static int decimalPlaces(List<BigDecimal> values) {
+        int scale = 0;
+        for (BigDecimal value : values) {
+            scale = Math.max(scale, value.stripTrailingZeros().scale());
+        }
+        return scale;
+    }
+
+    // Every value times 10^scale; none may have more than scale decimal places
+    private static long[] scaled(List<BigDecimal> values, int scale, String name) {
+        long[] scaled = new long[values.size()];
+        try {
+            for (int i = 0; i < scaled.length; i++) {
+                scaled[i] = values.get(i).setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            }
+            sum(scaled);
+        } catch (ArithmeticException e) {
+            throw invalid(name + " are too large");
+        }
+        return scaled;
+    }
+
+    private static long cents(BigDecimal amount, String name) {
+        try {
+            return Money.toCents(amount);
+        } catch (IllegalArgumentException e) {
+            throw invalid(name + " must be whole cents");
+        }
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum = Math.addExact(sum, value);
+        }
+        return sum;
+    }
+
+    private static ResponseStatusException invalid(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+}
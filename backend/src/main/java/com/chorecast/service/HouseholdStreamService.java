@@ -0,0 +1,162 @@
+package com.chorecast.service;
+
+import com.chorecast.event.HouseholdChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes household changes to subscribed clients over Server-Sent Events.
+ * An idle subscriber is only an async servlet response plus a small queue;
+ * no thread is held. Each event is queued per subscriber and written by a
+ * virtual thread started only while that queue has something to send, so a
+ * slow client never blocks the committing thread or other subscribers. A
+ * client that falls {@code app.stream.queue-capacity} events behind is
+ * disconnected and refetches on reconnect.
+ */
+@Service
+@Slf4j
+public class HouseholdStreamService {
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Duration timeout;
+    private final int queueCapacity;
+    private final Counter dropped;
+
+    public HouseholdStreamService(@Value("${app.stream.timeout:PT30M}") Duration timeout,
+                                  @Value("${app.stream.queue-capacity:32}") int queueCapacity,
+                                  MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.queueCapacity = queueCapacity;
+        Gauge.builder("household.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open household change streams")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("household.stream.dropped")
+                .description("Subscribers disconnected for falling behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID householdId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(householdId, emitter);
+        return emitter;
+    }
+
+    void register(UUID householdId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(householdId, emitter,
+                new ArrayBlockingQueue<>(queueCapacity));
+        subscribers.computeIfAbsent(householdId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHouseholdChange(HouseholdChangeEvent event) {
+        Set<Subscriber> household = subscribers.get(event.householdId());
+        if (household == null) {
+            return;
+        }
+        ChangeMessage message = new ChangeMessage(event.type(), event.entityIds());
+        for (Subscriber subscriber : household) {
+            enqueue(subscriber, SseEmitter.event().name(event.type().name()).data(message));
+        }
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscribers.values().forEach(household -> household.forEach(
+                subscriber -> enqueue(subscriber, SseEmitter.event().comment("ping"))));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue().offer(event)) {
+            dropped.increment();
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            Thread.ofVirtual().name("household-stream").start(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                SseEmitter.SseEventBuilder event = subscriber.queue().poll();
+                if (event == null) {
+                    subscriber.draining().set(false);
+                    // An event queued after the poll but before the flag cleared would otherwise wait
+                    if (subscriber.queue().isEmpty() || !subscriber.draining().compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                subscriber.emitter().send(event);
+            }
+        } catch (Exception e) {
+            log.debug("Closing household stream: {}", e.getMessage());
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter().complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> household = subscribers.get(subscriber.householdId());
+        if (household != null && household.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.householdId(), (id, set) -> set.isEmpty() ? null : set);
+        }
+    }
+
+    private record Subscriber(UUID householdId, SseEmitter emitter, Queue<SseEmitter.SseEventBuilder> queue,
+                              AtomicBoolean draining) {
+
+        Subscriber(UUID householdId, SseEmitter emitter, Queue<SseEmitter.SseEventBuilder> queue) {
+            this(householdId, emitter, queue, new AtomicBoolean());
+        }
+
+        // Identity semantics: two subscribers are never equal, even with equal queues
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    public record ChangeMessage(HouseholdChangeEvent.Type type, List<UUID> ids) {
+    }
+}
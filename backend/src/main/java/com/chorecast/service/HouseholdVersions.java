@@ -0,0 +1,103 @@
+package com.chorecast.service;
+
+import com.chorecast.event.HouseholdChangeEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version per household, bumped after every committed write, used
+ * as the ETag of household-scoped GETs. Versions come from one node-wide
+ * counter: a household that was evicted, or never seen, starts at the current
+ * counter value, which is never below a version it had before. The boot id in
+ * the ETag keeps tags from an earlier process, or another node, from matching.
+ * Writes on other nodes arrive through pg_notify, see
+ * {@link ClusterNotificationListener}.
+ */
+@Component
+public class HouseholdVersions {
+    static final String CHANNEL = "household_versions";
+
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong clock = new AtomicLong();
+    private final Cache<UUID, Long> versions;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter hits;
+    private final Counter misses;
+
+    public HouseholdVersions(JdbcTemplate jdbcTemplate,
+                             @Value("${app.household-versions.maximum-size:100000}") long maximumSize,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.hits = Counter.builder("household.etag.requests")
+                .description("Conditional GETs answered from the household version map")
+                .tag("result", "not_modified")
+                .register(meterRegistry);
+        this.misses = Counter.builder("household.etag.requests")
+                .description("Conditional GETs answered from the household version map")
+                .tag("result", "modified")
+                .register(meterRegistry);
+    }
+
+    // Null for a user without a household, which has nothing to version
+    public String etag(UUID householdId) {
+        if (householdId == null) {
+            return null;
+        }
+        return "\"" + bootId + "-" + householdId + "-" + versions.get(householdId, id -> clock.get()) + "\"";
+    }
+
+    // Queued in the writing transaction, so other nodes only hear about committed changes
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void broadcast(HouseholdChangeEvent event) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, event.householdId().toString());
+    }
+
+    // After commit, so a client can never be handed the new tag together with the old data
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHouseholdChange(HouseholdChangeEvent event) {
+        bump(event.householdId());
+    }
+
+    // Notifications from every node, this one included; an extra bump only costs one full response
+    void onNotification(String payload) {
+        try {
+            bump(UUID.fromString(payload));
+        } catch (IllegalArgumentException e) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Forgets every version after notifications may have been missed. The
+     * clock moves past all versions handed out so far, so no old tag matches.
+     */
+    public void invalidateAll() {
+        clock.incrementAndGet();
+        versions.invalidateAll();
+    }
+
+    private void bump(UUID householdId) {
+        versions.put(householdId, clock.incrementAndGet());
+    }
+
+    public void recordNotModified() {
+        hits.increment();
+    }
+
+    public void recordModified() {
+        misses.increment();
+    }
+}
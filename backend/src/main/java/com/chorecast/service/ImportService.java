@@ -0,0 +1,505 @@
+package com.chorecast.service;
+
+import com.chorecast.dto.ChoreRequest;
+import com.chorecast.dto.ExpenseRequest;
+import com.chorecast.dto.ImportResponse;
+import com.chorecast.event.HouseholdChangeEvent;
+import com.chorecast.model.Chore;
+import com.chorecast.model.Expense;
+import com.chorecast.model.ExpenseParticipant;
+import com.chorecast.model.LedgerEntry;
+import com.chorecast.model.User;
+import com.chorecast.repository.ChoreRepository;
+import com.chorecast.repository.ExpenseParticipantRepository;
+import com.chorecast.repository.ExpenseRepository;
+import com.chorecast.repository.LedgerEntryRepository;
+import com.chorecast.repository.UserRepository;
+import com.chorecast.scheduler.ChoresRescheduledEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk imports of expenses and chores from CSV or NDJSON. The body is read
+ * one row at a time and written in batches of {@code app.import.batch-size},
+ * so memory stays flat however long the file is, apart from the ids of the
+ * imported rows. Rows that fail validation are reported and skipped; the rest
+ * commit together, announced by a single change event: one per batch would
+ * overrun the queue of every client streaming the household.
+ * <p>
+ * CSV files start with a header naming the same fields as the JSON requests.
+ * Members may be given by id or email, and lists ({@code participants},
+ * {@code splitValues}) are separated by {@code ;} within their cell.
+ */
+@Service
+@Timed(value = "service.calls", description = "Service method calls by class and method")
+public class ImportService {
+    // expenses.description and chores.name are varchar(255)
+    private static final int MAX_TEXT_LENGTH = 255;
+    // ledger_entries.amount is numeric(12,2)
+    private static final long MAX_LEDGER_CENTS = 999_999_999_999L;
+    private static final List<String> EXPENSE_COLUMNS =
+            List.of("description", "amount", "payerId", "participants", "splitType", "splitValues");
+    private static final List<String> REQUIRED_EXPENSE_COLUMNS =
+            List.of("description", "amount", "payerId", "participants");
+    private static final List<String> CHORE_COLUMNS = List.of("name", "description", "frequency", "assignedTo");
+    private static final List<String> REQUIRED_CHORE_COLUMNS = List.of("name", "frequency", "assignedTo");
+
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseParticipantRepository expenseParticipantRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ChoreRepository choreRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public ImportService(ExpenseRepository expenseRepository,
+                         ExpenseParticipantRepository expenseParticipantRepository,
+                         LedgerEntryRepository ledgerEntryRepository,
+                         ChoreRepository choreRepository,
+                         UserRepository userRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         ObjectMapper objectMapper,
+                         @Value("${app.import.batch-size:1000}") int batchSize,
+                         @Value("${app.import.max-errors:100}") int maxErrors) {
+        this.expenseRepository = expenseRepository;
+        this.expenseParticipantRepository = expenseParticipantRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.choreRepository = choreRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrors = maxErrors;
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * Charges are not appended per expense: what each participant owes each
+     * payer is summed over the whole import and appended to the ledger once at
+     * the end. Settling an imported expense reverses its stored shares.
+     *
+     * @throws ResponseStatusException with BAD_REQUEST if the CSV header or quoting is malformed
+     */
+    @Transactional
+    public ImportResponse importExpenses(Reader body, Format format, UUID householdId) {
+        long started = System.nanoTime();
+        Members members = members(householdId);
+        Rows<ExpenseRequest> rows = format == Format.CSV
+                ? csvRows(body, EXPENSE_COLUMNS, REQUIRED_EXPENSE_COLUMNS, record -> expenseRequest(record, members))
+                : ndjsonRows(body, ExpenseRequest.class);
+
+        ImportResponse report = new ImportResponse();
+        LocalDateTime now = LocalDateTime.now();
+        List<Expense> expenses = new ArrayList<>(batchSize);
+        List<ExpenseSplitter.Split> splits = new ArrayList<>(batchSize);
+        Map<Debt, Long> debts = new HashMap<>();
+        List<UUID> imported = new ArrayList<>();
+        for (Row<ExpenseRequest> row = rows.next(); row != null; row = rows.next()) {
+            report.setRows(report.getRows() + 1);
+            try {
+                ExpenseRequest request = row.request();
+                ExpenseSplitter.Split split = validate(request, members);
+                expenses.add(Expense.builder()
+                        .id(UUID.randomUUID())
+                        .description(request.getDescription())
+                        .amount(request.getAmount())
+                        .payerId(request.getPayerId())
+                        .participants(request.getParticipants())
+                        .settled(false)
+                        .householdId(householdId)
+                        .createdAt(now)
+                        .build());
+                splits.add(split);
+            } catch (ResponseStatusException e) {
+                fail(report, row.line(), e.getReason());
+                continue;
+            }
+            if (expenses.size() == batchSize) {
+                writeExpenses(expenses, splits, debts, imported);
+            }
+        }
+        writeExpenses(expenses, splits, debts, imported);
+        ledgerEntryRepository.append(charges(debts, householdId));
+        publish(householdId, HouseholdChangeEvent.Type.EXPENSE_CREATED, imported);
+        return finish(report, started, imported);
+    }
+
+    /**
+     * @throws ResponseStatusException with BAD_REQUEST if the CSV header or quoting is malformed
+     */
+    @Transactional
+    public ImportResponse importChores(Reader body, Format format, UUID householdId) {
+        long started = System.nanoTime();
+        Members members = members(householdId);
+        Rows<ChoreRequest> rows = format == Format.CSV
+                ? csvRows(body, CHORE_COLUMNS, REQUIRED_CHORE_COLUMNS, record -> choreRequest(record, members))
+                : ndjsonRows(body, ChoreRequest.class);
+
+        ImportResponse report = new ImportResponse();
+        LocalDateTime now = LocalDateTime.now();
+        List<Chore> chores = new ArrayList<>(batchSize);
+        List<UUID> imported = new ArrayList<>();
+        for (Row<ChoreRequest> row = rows.next(); row != null; row = rows.next()) {
+            report.setRows(report.getRows() + 1);
+            try {
+                ChoreRequest request = row.request();
+                validate(request, members);
+                chores.add(Chore.builder()
+                        .id(UUID.randomUUID())
+                        .name(request.getName())
+                        .description(request.getDescription())
+                        .frequency(request.getFrequency())
+                        .assignedTo(request.getAssignedTo())
+                        .lastDone(now)
+                        .nextDue(ChoreService.nextDue(request.getFrequency(), now))
+                        .completed(false)
+                        .householdId(householdId)
+                        .createdAt(now)
+                        .build());
+            } catch (ResponseStatusException e) {
+                fail(report, row.line(), e.getReason());
+                continue;
+            }
+            if (chores.size() == batchSize) {
+                writeChores(chores, imported);
+            }
+        }
+        writeChores(chores, imported);
+        publish(householdId, HouseholdChangeEvent.Type.CHORE_CREATED, imported);
+        return finish(report, started, imported);
+    }
+
+    // Writes and clears one batch; the charges are only added to debts
+    private void writeExpenses(List<Expense> expenses, List<ExpenseSplitter.Split> splits, Map<Debt, Long> debts,
+                               List<UUID> imported) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        expenseRepository.append(expenses);
+        List<ExpenseParticipant> participants = ExpenseService.participants(expenses, splits);
+        expenseParticipantRepository.append(participants);
+
+        // Every participant other than the payer owes the payer their share
+        Map<UUID, UUID> payers = expenses.stream().collect(Collectors.toMap(Expense::getId, Expense::getPayerId));
+        for (ExpenseParticipant participant : participants) {
+            UUID payerId = payers.get(participant.getExpenseId());
+            if (participant.getShareCents() != 0 && !participant.getUserId().equals(payerId)) {
+                debts.merge(new Debt(participant.getUserId(), payerId), participant.getShareCents(), Long::sum);
+            }
+        }
+
+        expenses.forEach(expense -> imported.add(expense.getId()));
+        expenses.clear();
+        splits.clear();
+    }
+
+    private void writeChores(List<Chore> chores, List<UUID> imported) {
+        if (chores.isEmpty()) {
+            return;
+        }
+        choreRepository.append(chores);
+        eventPublisher.publishEvent(new ChoresRescheduledEvent(chores.stream().map(ChoreService::dueTime).toList()));
+        chores.forEach(chore -> imported.add(chore.getId()));
+        chores.clear();
+    }
+
+    private void publish(UUID householdId, HouseholdChangeEvent.Type type, List<UUID> imported) {
+        if (!imported.isEmpty()) {
+            eventPublisher.publishEvent(new HouseholdChangeEvent(householdId, type, imported));
+        }
+    }
+
+    // One CHARGE per debtor and payer, split only where a total would overflow the column
+    private static List<LedgerEntry> charges(Map<Debt, Long> debts, UUID householdId) {
+        List<LedgerEntry> entries = new ArrayList<>(debts.size());
+        debts.forEach((debt, cents) -> {
+            for (long remaining = cents; remaining > 0; remaining -= MAX_LEDGER_CENTS) {
+                entries.add(LedgerEntry.builder()
+                        .householdId(householdId)
+                        .userFrom(debt.from())
+                        .userTo(debt.to())
+                        .amount(Money.fromCents(Math.min(remaining, MAX_LEDGER_CENTS)))
+                        .entryType(LedgerEntry.EntryType.CHARGE)
+                        .build());
+            }
+        });
+        return entries;
+    }
+
+    private static ExpenseSplitter.Split validate(ExpenseRequest request, Members members) {
+        text(request.getDescription(), "description");
+        ExpenseSplitter.Split split = ExpenseSplitter.split(request);
+        members.require(request.getPayerId(), "payerId");
+        split.participants().forEach(id -> members.require(id, "participants"));
+        return split;
+    }
+
+    private static void validate(ChoreRequest request, Members members) {
+        text(request.getName(), "name");
+        if (request.getFrequency() == null) {
+            throw invalid("frequency is required");
+        }
+        if (request.getAssignedTo() == null) {
+            throw invalid("assignedTo is required");
+        }
+        members.require(request.getAssignedTo(), "assignedTo");
+    }
+
+    private static void text(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw invalid(name + " is required");
+        }
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw invalid(name + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private static ExpenseRequest expenseRequest(CsvRecord record, Members members) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDescription(record.get("description"));
+        request.setAmount(decimal(record.get("amount"), "amount"));
+        request.setPayerId(members.resolve(record.get("payerId")));
+        request.setParticipants(list(record.get("participants")).stream().map(members::resolve).toList());
+        String splitType = record.get("splitType");
+        if (splitType != null) {
+            request.setSplitType(enumValue(ExpenseRequest.SplitType.class, splitType, "splitType"));
+        }
+        String splitValues = record.get("splitValues");
+        if (splitValues != null) {
+            request.setSplitValues(list(splitValues).stream().map(value -> decimal(value, "splitValues")).toList());
+        }
+        return request;
+    }
+
+    private static ChoreRequest choreRequest(CsvRecord record, Members members) {
+        ChoreRequest request = new ChoreRequest();
+        request.setName(record.get("name"));
+        request.setDescription(record.get("description"));
+        String frequency = record.get("frequency");
+        if (frequency != null) {
+            request.setFrequency(enumValue(Chore.Frequency.class, frequency, "frequency"));
+        }
+        request.setAssignedTo(members.resolve(record.get("assignedTo")));
+        return request;
+    }
+
+    private static List<String> list(String cell) {
+        if (cell == null) {
+            return List.of();
+        }
+        return Arrays.stream(cell.split(";")).map(String::trim).filter(value -> !value.isEmpty()).toList();
+    }
+
+    private static BigDecimal decimal(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw invalid(name + " must be a number, not '" + value + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalid(name + " must be one of " + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+
+    private void fail(ImportResponse report, long line, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxErrors) {
+            report.getErrors().add(new ImportResponse.RowError(line, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static ImportResponse finish(ImportResponse report, long started, List<UUID> imported) {
+        report.setImported(imported.size());
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        report.setElapsedMillis(elapsedNanos / 1_000_000);
+        report.setRowsPerSecond(report.getRows() * 1_000_000_000L / elapsedNanos);
+        return report;
+    }
+
+    private Members members(UUID householdId) {
+        List<User> users = userRepository.findByHouseholdId(householdId);
+        Map<String, UUID> byEmail = new HashMap<>();
+        users.forEach(user -> byEmail.put(user.getEmail().toLowerCase(Locale.ROOT), user.getId()));
+        return new Members(users.stream().map(User::getId).collect(Collectors.toSet()), byEmail);
+    }
+
+    /**
+     * CSV rows are turned into requests by {@code parse}; a header that does
+     * not match {@code columns} rejects the whole import.
+     */
+    private static <T> Rows<T> csvRows(Reader body, List<String> columns, List<String> required,
+                                       Function<CsvRecord, T> parse) {
+        CsvReader reader = new CsvReader(body);
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = read(reader);
+        if (names == null) {
+            return () -> null;
+        }
+        Map<String, String> known = columns.stream()
+                .collect(Collectors.toMap(column -> column.toLowerCase(Locale.ROOT), column -> column));
+        for (int i = 0; i < names.size(); i++) {
+            String column = known.get(names.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw invalid("unknown column '" + names.get(i) + "', expected " + columns);
+            }
+            if (header.put(column, i) != null) {
+                throw invalid("column " + column + " is repeated");
+            }
+        }
+        for (String column : required) {
+            if (!header.containsKey(column)) {
+                throw invalid("missing column " + column);
+            }
+        }
+
+        return () -> {
+            List<String> fields = read(reader);
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() != names.size()) {
+                return new Row<>(reader.line(), null,
+                        "expected " + names.size() + " fields but found " + fields.size());
+            }
+            try {
+                return new Row<>(reader.line(), parse.apply(new CsvRecord(header, fields)), null);
+            } catch (ResponseStatusException e) {
+                return new Row<>(reader.line(), null, e.getReason());
+            }
+        };
+    }
+
+    private <T> Rows<T> ndjsonRows(Reader body, Class<T> type) {
+        BufferedReader reader = new BufferedReader(body);
+        long[] line = {0};
+        return () -> {
+            String text;
+            try {
+                do {
+                    text = reader.readLine();
+                    line[0]++;
+                } while (text != null && text.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (text == null) {
+                return null;
+            }
+            try {
+                return new Row<>(line[0], objectMapper.readValue(text, type), null);
+            } catch (JsonProcessingException e) {
+                return new Row<>(line[0], null, "invalid JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private static List<String> read(CsvReader reader) {
+        try {
+            return reader.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ResponseStatusException invalid(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+
+    // Next row of the body, or null at its end
+    private interface Rows<T> {
+        Row<T> next();
+    }
+
+    // Either the parsed request or the reason the row could not be parsed
+    private record Row<T>(long line, T request, String error) {
+        public T request() {
+            if (error != null) {
+                throw invalid(error);
+            }
+            return request;
+        }
+    }
+
+    private record CsvRecord(Map<String, Integer> columns, List<String> fields) {
+        // Blank cells and absent columns are both null
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    private record Members(Set<UUID> ids, Map<String, UUID> byEmail) {
+        // A member's id or email, as written in a CSV cell
+        UUID resolve(String reference) {
+            if (reference == null) {
+                return null;
+            }
+            UUID id;
+            if (reference.contains("@")) {
+                id = byEmail.get(reference.toLowerCase(Locale.ROOT));
+            } else {
+                try {
+                    id = UUID.fromString(reference);
+                } catch (IllegalArgumentException e) {
+                    throw invalid("'" + reference + "' is neither a user id nor an email");
+                }
+            }
+            if (id == null || !ids.contains(id)) {
+                throw invalid(reference + " is not a member of this household");
+            }
+            return id;
+        }
+
+        void require(UUID id, String field) {
+            if (!ids.contains(id)) {
+                throw invalid(field + " includes " + id + ", who is not a member of this household");
+            }
+        }
+    }
+
+    private record Debt(UUID from, UUID to) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.chorecast.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Money as whole cents in a {@code long}. Amounts are split with the
+ * largest-remainder method: everyone gets the floor of their exact share and
+ * the cents left over go to the largest fractional parts, ties to the
+ * earliest member. The shares therefore always add up to the amount. The
+ * split methods write into a caller-owned array and allocate nothing.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the amount has fractions of a cent
+     */
+    public static long toCents(BigDecimal amount) {
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount must be a whole number of cents: " + amount, e);
+        }
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Splits {@code cents} into {@code count} equal shares, the first
+     * {@code cents % count} of them one cent larger.
+     */
+    public static void splitEvenly(long cents, long[] shares, int count) {
+        if (cents < 0 || count < 1) {
+            throw new IllegalArgumentException("Cannot split " + cents + " cents " + count + " ways");
+        }
+        long base = cents / count;
+        long left = cents % count;
+        for (int i = 0; i < count; i++) {
+            shares[i] = i < left ? base + 1 : base;
+        }
+    }
+
+    /**
+     * Splits {@code cents} in proportion to the first {@code count} weights.
+     * Leftover cents are handed out one at a time, which costs O(count) per
+     * cent; fewer than {@code count} cents are ever left over.
+     *
+     * @throws IllegalArgumentException if a weight is negative or all are zero
+     * @throws ArithmeticException if {@code cents * weight} overflows a long
+     */
+    public static void allocate(long cents, long[] weights, long[] shares, int count) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("Cannot split " + cents + " cents");
+        }
+        long totalWeight = 0;
+        for (int i = 0; i < count; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            totalWeight = Math.addExact(totalWeight, weights[i]);
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        long left = cents;
+        for (int i = 0; i < count; i++) {
+            shares[i] = Math.multiplyExact(cents, weights[i]) / totalWeight;
+            left -= shares[i];
+        }
+        for (; left > 0; left--) {
+            int largest = -1;
+            long largestRemainder = -1;
+            for (int i = 0; i < count; i++) {
+                long exact = cents * weights[i];
+                // Members already topped up hold the ceiling of their exact share
+                if (shares[i] * totalWeight > exact) {
+                    continue;
+                }
+                long remainder = exact - shares[i] * totalWeight;
+                if (remainder > largestRemainder) {
+                    largest = i;
+                    largestRemainder = remainder;
+                }
+            }
+            shares[largest]++;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.chorecast.service;
+
+import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.dto.SyncResponse;
+import com.chorecast.event.HouseholdChangeEvent;
+import com.chorecast.model.ChangeLogEntry;
+import com.chorecast.model.HouseholdSequence;
+import com.chorecast.repository.ChangeLogRepository;
+import com.chorecast.repository.HouseholdSequenceRepository;
+import com.chorecast.repository.SyncAckRepository;
+import com.chorecast.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Delta sync over the change_log: clients keep the last sequence they
+ * applied and fetch only what changed after it. Entries every member has
+ * acknowledged are compacted away; a client behind the compacted point, or
+ * one starting from nothing, is told to reset and reload in full.
+ */
+@Service
+public class SyncService {
+    private final ChangeLogRepository changeLogRepository;
+    private final HouseholdSequenceRepository householdSequenceRepository;
+    private final SyncAckRepository syncAckRepository;
+    private final ChoreService choreService;
+    private final ExpenseService expenseService;
+    private final BalanceService balanceService;
+    private final int maxLimit;
+
+    public SyncService(ChangeLogRepository changeLogRepository,
+                       HouseholdSequenceRepository householdSequenceRepository,
+                       SyncAckRepository syncAckRepository,
+                       ChoreService choreService,
+                       ExpenseService expenseService,
+                       BalanceService balanceService,
+                       @Value("${app.sync.max-limit:1000}") int maxLimit) {
+        this.changeLogRepository = changeLogRepository;
+        this.householdSequenceRepository = householdSequenceRepository;
+        this.syncAckRepository = syncAckRepository;
+        this.choreService = choreService;
+        this.expenseService = expenseService;
+        this.balanceService = balanceService;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Written just before the change commits, in the same transaction, so
+     * the log never disagrees with the data. The household's sequence row is
+     * locked from here until commit, which keeps that window short.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onHouseholdChange(HouseholdChangeEvent event) {
+        List<ChangeLogEntry> entries = entries(event);
+        if (!entries.isEmpty()) {
+            changeLogRepository.append(event.householdId(), entries);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SyncResponse sync(AuthenticatedUser user, Long since, int limit) {
+        HouseholdSequence sequence = householdSequenceRepository.findById(user.householdId())
+                .orElseGet(() -> new HouseholdSequence(user.householdId(), 0L, 0L));
+
+        SyncResponse response = new SyncResponse();
+        if (since == null || since < sequence.getCompactedThrough() || since > sequence.getLastSeq()) {
+            response.setReset(true);
+            response.setSeq(sequence.getLastSeq());
+            return response;
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, maxLimit));
+        List<ChangeLogEntry> entries = changeLogRepository.findByHouseholdIdAndSeqGreaterThanOrderBySeq(
+                user.householdId(), since, Limit.of(pageSize + 1));
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            response.setHasMore(true);
+        }
+        response.setSeq(entries.isEmpty() ? since : entries.get(entries.size() - 1).getSeq());
+
+        // Only the latest operation per entity matters
+        Map<UUID, ChangeLogEntry.Operation> chores = new LinkedHashMap<>();
+        Map<UUID, ChangeLogEntry.Operation> expenses = new LinkedHashMap<>();
+        boolean balancesChanged = false;
+        for (ChangeLogEntry entry : entries) {
+            switch (entry.getEntityType()) {
+                case CHORE -> chores.put(entry.getEntityId(), entry.getOperation());
+                case EXPENSE -> expenses.put(entry.getEntityId(), entry.getOperation());
+                case BALANCE -> balancesChanged = true;
+            }
+        }
+
+        List<ChoreResponse> upsertedChores = choreService.getHouseholdChoresById(user.householdId(), upserts(chores));
+        response.setChores(upsertedChores);
+        response.setDeletedChoreIds(deletes(chores, upsertedChores.stream().map(ChoreResponse::getId).toList()));
+
+        List<ExpenseResponse> upsertedExpenses =
+                expenseService.getHouseholdExpensesById(user.householdId(), upserts(expenses));
+        response.setExpenses(upsertedExpenses);
+        response.setDeletedExpenseIds(deletes(expenses, upsertedExpenses.stream().map(ExpenseResponse::getId).toList()));
+
+        if (balancesChanged) {
+            response.setBalances(balanceService.getHouseholdBalances(user.householdId()));
+        }
+        return response;
+    }
+
+    /**
+     * Records that the user applied everything up to {@code seq} and drops
+     * the entries every member of the household has now applied.
+     */
+    @Transactional
+    public void acknowledge(AuthenticatedUser user, Long seq) {
+        if (seq == null || seq < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "seq must be a non-negative number");
+        }
+        if (syncAckRepository.acknowledge(user.householdId(), user.id(), seq) > 0) {
+            changeLogRepository.compact(user.householdId());
+        }
+    }
+
+    private static List<ChangeLogEntry> entries(HouseholdChangeEvent event) {
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        switch (event.type()) {
+            case CHORE_CREATED, CHORE_COMPLETED, CHORE_RESET ->
+                    addUpserts(entries, ChangeLogEntry.EntityType.CHORE, event.entityIds());
+            case EXPENSE_CREATED, EXPENSE_SETTLED -> {
+                addUpserts(entries, ChangeLogEntry.EntityType.EXPENSE, event.entityIds());
+                entries.add(entry(ChangeLogEntry.EntityType.BALANCE, null));
+            }
+        }
+        return entries;
+    }
+
+    private static void addUpserts(List<ChangeLogEntry> entries, ChangeLogEntry.EntityType type, List<UUID> ids) {
+        for (UUID id : ids) {
+            entries.add(entry(type, id));
+        }
+    }
+
+    private static ChangeLogEntry entry(ChangeLogEntry.EntityType type, UUID entityId) {
+        return ChangeLogEntry.builder()
+                .entityType(type)
+                .entityId(entityId)
+                .operation(ChangeLogEntry.Operation.UPSERT)
+                .build();
+    }
+
+    private static Set<UUID> upserts(Map<UUID, ChangeLogEntry.Operation> changes) {
+        Set<UUID> ids = new HashSet<>();
+        changes.forEach((id, operation) -> {
+            if (operation == ChangeLogEntry.Operation.UPSERT) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    // Deleted explicitly, or upserted but gone by the time it was read
+    private static List<UUID> deletes(Map<UUID, ChangeLogEntry.Operation> changes, List<UUID> found) {
+        Set<UUID> present = new HashSet<>(found);
+        return changes.keySet().stream()
+                .filter(id -> !present.contains(id))
+                .toList();
+    }
+}
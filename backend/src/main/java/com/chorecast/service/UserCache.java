@@ -0,0 +1,99 @@
+package com.chorecast.service;
+
+import com.chorecast.model.User;
+import com.chorecast.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache of users by id, by email and by household, with entries
+ * living for {@code app.user-cache.ttl}. Users are written once, when they
+ * register, and lookups that find nothing are not cached, so no entry goes
+ * stale and nothing needs evicting on this node or any other. Callers get copies and may modify them freely.
+ */
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final Cache<UUID, User> byId;
+    private final Cache<String, UUID> idsByEmail;
+    private final Cache<UUID, List<User>> byHousehold;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${app.user-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${app.user-cache.ttl:10m}") Duration ttl,
+                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byHousehold = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "usersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "userIdsByEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, byHousehold, "householdMembers");
+    }
+
+    public Optional<User> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id, key -> userRepository.findById(key).orElse(null))).map(UserCache::copy);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        UUID id = idsByEmail.get(email, key -> userRepository.findByEmail(key)
+                .map(user -> {
+                    byId.put(user.getId(), copy(user));
+                    return user.getId();
+                })
+                .orElse(null));
+        Optional<User> user = id != null ? findById(id) : Optional.empty();
+        // The id no longer has this email; look it up again rather than trust the mapping
+        if (id != null && user.map(found -> !found.getEmail().equals(email)).orElse(true)) {
+            idsByEmail.invalidate(email);
+            return userRepository.findByEmail(email);
+        }
+        return user;
+    }
+
+    public List<User> findByHouseholdId(UUID householdId) {
+        // A user who has not joined a household yet has no members to list
+        if (householdId == null) {
+            return List.of();
+        }
+        return byHousehold.get(householdId, key -> userRepository.findByHouseholdId(key).stream()
+                        .map(UserCache::copy)
+                        .toList())
+                .stream()
+                .map(UserCache::copy)
+                .toList();
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .passwordHash(user.getPasswordHash())
+                .householdId(user.getHouseholdId())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+-- Schema as ddl-auto last created it. Databases that ddl-auto created earlier
+-- are baselined at V0 (spring.flyway.baseline-on-migrate) and run this too, so
+-- every statement only adds what is missing: tables, then the columns and
+-- constraints that later entity versions introduced.
+
+CREATE TABLE IF NOT EXISTS users (
+    id            uuid         NOT NULL PRIMARY KEY,
+    name          varchar(255) NOT NULL,
+    email         varchar(255) NOT NULL UNIQUE,
+    password_hash varchar(255) NOT NULL,
+    household_id  uuid,
+    created_at    timestamp(6),
+    updated_at    timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS chores (
+    id           uuid         NOT NULL PRIMARY KEY,
+    name         varchar(255) NOT NULL,
+    description  text,
+    frequency    varchar(255) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY', 'CUSTOM')),
+    last_done    timestamp(6),
+    assigned_to  uuid         NOT NULL,
+    next_due     timestamp(6) NOT NULL,
+    completed    boolean      NOT NULL,
+    household_id uuid         NOT NULL,
+    created_at   timestamp(6),
+    updated_at   timestamp(6)
+);
+
+ALTER TABLE chores ADD COLUMN IF NOT EXISTS updated_at timestamp(6);
+
+CREATE INDEX IF NOT EXISTS idx_chores_household_next_due ON chores (household_id, next_due, id);
+CREATE INDEX IF NOT EXISTS idx_chores_next_due ON chores (next_due);
+CREATE INDEX IF NOT EXISTS idx_chores_updated_at ON chores (updated_at);
+
+CREATE TABLE IF NOT EXISTS expenses (
+    id           uuid          NOT NULL PRIMARY KEY,
+    description  varchar(255)  NOT NULL,
+    amount       numeric(10,2) NOT NULL,
+    payer_id     uuid          NOT NULL,
+    participants jsonb         NOT NULL,
+    household_id uuid          NOT NULL,
+    settled      boolean       NOT NULL,
+    created_at   timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_expenses_household_created ON expenses (household_id, created_at, id);
+
+CREATE TABLE IF NOT EXISTS expense_participants (
+    expense_id   uuid         NOT NULL,
+    user_id      uuid         NOT NULL,
+    household_id uuid         NOT NULL,
+    share_cents  bigint       NOT NULL,
+    paid_cents   bigint       NOT NULL,
+    created_at   timestamp(6) NOT NULL,
+    PRIMARY KEY (expense_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_expense_participants_user_created
+    ON expense_participants (user_id, household_id, created_at, expense_id);
+CREATE INDEX IF NOT EXISTS idx_expense_participants_household_user ON expense_participants (household_id, user_id);
+
+CREATE TABLE IF NOT EXISTS reminders (
+    id              uuid         NOT NULL PRIMARY KEY,
+    user_id         uuid         NOT NULL,
+    chore_id        uuid,
+    occurrence_due  timestamp(6),
+    message         text         NOT NULL,
+    type            varchar(255) NOT NULL CHECK (type IN ('CHORE', 'EXPENSE')),
+    due_date        timestamp(6) NOT NULL,
+    sent            boolean      NOT NULL,
+    status          varchar(16)  DEFAULT 'PENDING' NOT NULL CHECK (status IN ('PENDING', 'SENT', 'DEAD')),
+    attempts        integer      DEFAULT 0 NOT NULL,
+    next_attempt_at timestamp(6),
+    last_error      text
+);
+
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS chore_id uuid;
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS occurrence_due timestamp(6);
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS status varchar(16) DEFAULT 'PENDING' NOT NULL
+    CHECK (status IN ('PENDING', 'SENT', 'DEAD'));
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS attempts integer DEFAULT 0 NOT NULL;
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS next_attempt_at timestamp(6);
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS last_error text;
+-- Reminders delivered before status existed
+UPDATE reminders SET status = 'SENT' WHERE sent = true AND status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_reminders_chore_occurrence ON reminders (chore_id, occurrence_due);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reminders_pending_chore ON reminders (chore_id, occurrence_due) WHERE sent = false;
+
+CREATE TABLE IF NOT EXISTS ledger_entries (
+    id           bigserial     NOT NULL PRIMARY KEY,
+    household_id uuid          NOT NULL,
+    expense_id   uuid,
+    user_from    uuid          NOT NULL,
+    user_to      uuid          NOT NULL,
+    amount       numeric(12,2) NOT NULL,
+    entry_type   varchar(255)  NOT NULL CHECK (entry_type IN ('CHARGE', 'REVERSAL')),
+    created_at   timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_household_seq ON ledger_entries (household_id, id);
+CREATE INDEX IF NOT EXISTS idx_ledger_user_from_seq ON ledger_entries (user_from, id);
+CREATE INDEX IF NOT EXISTS idx_ledger_user_to_seq ON ledger_entries (user_to, id);
+CREATE INDEX IF NOT EXISTS idx_ledger_expense ON ledger_entries (expense_id);
+
+CREATE TABLE IF NOT EXISTS balances (
+    id           uuid          NOT NULL PRIMARY KEY,
+    household_id uuid          NOT NULL,
+    user_from    uuid          NOT NULL,
+    user_to      uuid          NOT NULL,
+    amount       numeric(10,2) NOT NULL,
+    last_updated timestamp(6),
+    CONSTRAINT uk_balances_household_pair UNIQUE (household_id, user_from, user_to)
+);
+
+-- Older schemas allowed a pair twice; fold duplicates into one row before adding the constraint
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'balances'::regclass AND conname = 'uk_balances_household_pair') THEN
+        WITH pairs AS (
+            SELECT id,
+                   first_value(id) OVER pair AS kept_id,
+                   sum(amount) OVER pair AS total
+            FROM balances
+            WINDOW pair AS (PARTITION BY household_id, user_from, user_to ORDER BY id
+                            ROWS BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING)
+        ), kept AS (
+            UPDATE balances b SET amount = p.total FROM pairs p WHERE b.id = p.id AND p.id = p.kept_id
+        )
+        DELETE FROM balances b USING pairs p WHERE b.id = p.id AND p.id <> p.kept_id;
+        ALTER TABLE balances
+            ADD CONSTRAINT uk_balances_household_pair UNIQUE (household_id, user_from, user_to);
+    END IF;
+END
+$$;
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+    household_id uuid         NOT NULL PRIMARY KEY,
+    ledger_seq   bigint       NOT NULL,
+    taken_at     timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS scheduler_nodes (
+    node_id      uuid         NOT NULL PRIMARY KEY,
+    heartbeat_at timestamp(6) NOT NULL,
+    started_at   timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS change_log (
+    id           bigserial    NOT NULL PRIMARY KEY,
+    household_id uuid         NOT NULL,
+    seq          bigint       NOT NULL,
+    entity_type  varchar(255) NOT NULL CHECK (entity_type IN ('CHORE', 'EXPENSE', 'BALANCE')),
+    entity_id    uuid,
+    operation    varchar(255) NOT NULL CHECK (operation IN ('UPSERT', 'DELETE')),
+    created_at   timestamp(6),
+    CONSTRAINT uk_change_log_household_seq UNIQUE (household_id, seq)
+);
+
+CREATE TABLE IF NOT EXISTS household_sequences (
+    household_id      uuid   NOT NULL PRIMARY KEY,
+    last_seq          bigint NOT NULL,
+    compacted_through bigint NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS sync_acks (
+    id           uuid         NOT NULL PRIMARY KEY,
+    household_id uuid         NOT NULL,
+    user_id      uuid         NOT NULL,
+    acked_seq    bigint       NOT NULL,
+    updated_at   timestamp(6),
+    CONSTRAINT uk_sync_acks_household_user UNIQUE (household_id, user_id)
+);
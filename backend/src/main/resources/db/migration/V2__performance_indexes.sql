@@ -0,0 +1,27 @@
+-- Indexes for the repository finders that had none. QueryPlanTest checks that
+-- each finder's plan uses an index once the tables hold realistic volumes.
+
+-- findByHouseholdIdAndCompletedFalse and chore pages filtered on completed, in due order
+CREATE INDEX IF NOT EXISTS idx_chores_household_completed_due ON chores (household_id, completed, next_due);
+
+-- Recurring reset: only completed chores are candidates
+CREATE INDEX IF NOT EXISTS idx_chores_completed_next_due ON chores (next_due) WHERE completed = true;
+
+-- findByAssignedTo
+CREATE INDEX IF NOT EXISTS idx_chores_assigned_to ON chores (assigned_to);
+
+-- claimDue and findByDueDateBeforeAndSentFalse; sent reminders drop out of the index
+CREATE INDEX IF NOT EXISTS idx_reminders_pending_due ON reminders (due_date) WHERE sent = false;
+
+-- findByUserId
+CREATE INDEX IF NOT EXISTS idx_reminders_user ON reminders (user_id);
+
+-- findByHouseholdIdAndSettledFalse and expense pages filtered on settled, newest first
+CREATE INDEX IF NOT EXISTS idx_expenses_household_settled_created ON expenses (household_id, settled, created_at, id);
+
+-- findByUserFrom, findByUserFromAndUserTo and the per-user current balances
+CREATE INDEX IF NOT EXISTS idx_balances_user_from ON balances (user_from, user_to);
+CREATE INDEX IF NOT EXISTS idx_balances_user_to ON balances (user_to);
+
+-- findByHouseholdId, behind the household member cache
+CREATE INDEX IF NOT EXISTS idx_users_household ON users (household_id);
@@ -0,0 +1,32 @@
+-- Fills expense_participants for expenses created before the table existed; a no-op once they all have rows.
+-- Shares are split like Money.splitEvenly: each participant gets the floor, and the leftover cents go one
+-- each to the first participants in list order, so the shares always add up to the amount.
+INSERT INTO expense_participants (expense_id, user_id, household_id, share_cents, paid_cents, created_at)
+SELECT e.id, m.user_id, e.household_id,
+       CASE WHEN m.position IS NULL THEN 0
+            ELSE c.cents / c.participants + CASE WHEN m.position <= c.cents % c.participants THEN 1 ELSE 0 END
+       END,
+       CASE WHEN m.user_id = e.payer_id THEN c.cents ELSE 0 END,
+       COALESCE(e.created_at, now())
+FROM expenses e
+CROSS JOIN LATERAL (
+    SELECT round(e.amount * 100)::bigint AS cents,
+           (SELECT count(DISTINCT p::uuid) FROM jsonb_array_elements_text(e.participants) p) AS participants
+) c
+CROSS JOIN LATERAL (
+    -- A participant listed twice counts once, at their first position; a payer who is not a participant has none
+    SELECT u.user_id,
+           CASE WHEN bool_or(u.participant)
+                THEN row_number() OVER (PARTITION BY bool_or(u.participant) ORDER BY min(u.ordinality))
+           END AS position
+    FROM (
+        SELECT p.value::uuid, true, p.ordinality
+        FROM jsonb_array_elements_text(e.participants) WITH ORDINALITY p(value, ordinality)
+        UNION ALL
+        SELECT e.payer_id, false, NULL
+    ) u(user_id, participant, ordinality)
+    GROUP BY u.user_id
+) m
+WHERE jsonb_array_length(e.participants) > 0
+  AND NOT EXISTS (SELECT 1 FROM expense_participants ep WHERE ep.expense_id = e.id)
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,23 @@
+package com.chorecast;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when its body issues more SQL statements than declared.
+ * Only the test method is measured, not @BeforeEach set-up, so a test that
+ * makes one request holds that endpoint to its budget. Statements on other
+ * threads are not counted.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    // Most statements the test body may issue
+    int value();
+}
@@ -0,0 +1,30 @@
+package com.chorecast;
+
+import com.chorecast.monitoring.QueryStats;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudget.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryStats.open());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryStats.class);
+        stats.close();
+        // A test that already failed keeps its own failure
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        int budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).value();
+        assertTrue(stats.statements() <= budget,
+                () -> context.getDisplayName() + " exceeded its budget of " + budget + " statements: " + stats);
+    }
+}
@@ -0,0 +1,313 @@
+package com.chorecast.controller;
+
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.QueryBudget;
+import com.chorecast.dto.ChoreRequest;
+import com.chorecast.dto.ExpenseRequest;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.model.Chore;
+import com.chorecast.model.User;
+import com.chorecast.repository.UserRepository;
+import com.chorecast.security.JwtTokenProvider;
+import com.chorecast.service.ChoreService;
+import com.chorecast.service.ExpenseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * N+1 guards: every household holds {@value #ROWS} expenses and chores, and
+ * each test makes one request whose statement count must stay within its
+ * budget, however many rows are read or written. Every write includes the
+ * pg_notify that bumps the household's version on the other nodes.
+ */
+@SpringBootTest(properties = "app.query-stats.response-headers=true")
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTest extends PostgresIntegrationTest {
+    private static final int ROWS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID householdId;
+    private List<User> members;
+    private String token;
+    private List<UUID> expenseIds;
+    private List<UUID> choreIds;
+    private UUID otherHouseholdsChoreId;
+
+    @BeforeEach
+    void setUp() {
+        householdId = UUID.randomUUID();
+        members = new ArrayList<>();
+        for (String name : List.of("Alice", "Bob", "Carol")) {
+            members.add(userRepository.save(User.builder()
+                    .name(name)
+                    .email(name.toLowerCase() + "-" + householdId + "@chorecast.test")
+                    .passwordHash("x")
+                    .householdId(householdId)
+                    .build()));
+        }
+        token = tokenProvider.generateToken(members.get(0));
+
+        expenseIds = expenseService.createExpenses(expenses(ROWS), householdId).stream()
+                .map(ExpenseResponse::getId)
+                .toList();
+        choreIds = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            choreIds.add(choreService.createChore(chore(i), householdId).getId());
+        }
+        otherHouseholdsChoreId = choreService.createChore(chore(0), UUID.randomUUID()).getId();
+    }
+
+    @Test
+    @QueryBudget(6)
+    void createExpense() throws Exception {
+        mockMvc.perform(authorized(post("/api/expenses")).content(json(expenses(1).get(0))))
+                .andExpect(status().isOk());
+    }
+
+    // Same budget as a single expense: the batch is written with a fixed number of statements
+    @Test
+    @QueryBudget(6)
+    void createExpensesInBulk() throws Exception {
+        mockMvc.perform(authorized(post("/api/expenses/bulk")).content(json(expenses(ROWS))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    // A bill split by weights is still one expense and one batch of ledger charges
+    @Test
+    @QueryBudget(6)
+    void createWeightedExpense() throws Exception {
+        ExpenseRequest rent = expenses(1).get(0);
+        rent.setSplitType(ExpenseRequest.SplitType.WEIGHTS);
+        rent.setSplitValues(List.of(new BigDecimal("12.5"), new BigDecimal("10"), new BigDecimal("7.5")));
+        mockMvc.perform(authorized(post("/api/expenses")).content(json(rent)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(0)
+    void rejectInvalidSplitBeforeWriting() throws Exception {
+        ExpenseRequest rent = expenses(1).get(0);
+        rent.setSplitType(ExpenseRequest.SplitType.PERCENTAGES);
+        rent.setSplitValues(List.of(new BigDecimal("50"), new BigDecimal("30"), new BigDecimal("10")));
+        mockMvc.perform(authorized(post("/api/expenses")).content(json(rent)))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Rows are written a batch at a time, with charges summed and appended once for the whole import
+    @Test
+    @QueryBudget(7)
+    void importExpenses() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (ExpenseRequest expense : expenses(ROWS)) {
+            body.append(json(expense)).append('\n');
+        }
+        mockMvc.perform(authorized(post("/api/import/expenses"))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(ROWS))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void listExpenses() throws Exception {
+        mockMvc.perform(authorized(get("/api/expenses")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void pageExpenses() throws Exception {
+        mockMvc.perform(authorized(get("/api/expenses/page")).param("settled", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(ROWS));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void pageMyExpenses() throws Exception {
+        mockMvc.perform(authorized(get("/api/expenses/mine")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(ROWS));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void expenseTotals() throws Exception {
+        mockMvc.perform(authorized(get("/api/expenses/totals")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(members.size()));
+    }
+
+    @Test
+    @QueryBudget(6)
+    void settleExpensesInBulk() throws Exception {
+        mockMvc.perform(authorized(put("/api/expenses/settle")).content(json(expenseIds)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void listChores() throws Exception {
+        mockMvc.perform(authorized(get("/api/chores")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    @QueryBudget(4)
+    void completeChore() throws Exception {
+        mockMvc.perform(authorized(put("/api/chores/{id}/complete", choreIds.get(0))))
+                .andExpect(status().isOk());
+    }
+
+    // Only the lookup runs: nothing is written or announced to the other household
+    @Test
+    @QueryBudget(1)
+    void completeAnotherHouseholdsChore() throws Exception {
+        mockMvc.perform(authorized(put("/api/chores/{id}/complete", otherHouseholdsChoreId)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void householdBalances() throws Exception {
+        mockMvc.perform(authorized(get("/api/balances")))
+                .andExpect(status().isOk());
+    }
+
+    // One statement per section, each on its own thread
+    @Test
+    @QueryBudget(4)
+    void dashboard() throws Exception {
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk());
+    }
+
+    // Without a household there is no ETag
+    @Test
+    void dashboardWithoutAHousehold() throws Exception {
+        token = tokenWithoutAHousehold();
+
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void syncWithoutAHousehold() throws Exception {
+        token = tokenWithoutAHousehold();
+
+        mockMvc.perform(authorized(get("/api/sync")))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(authorized(post("/api/sync/ack")).content("{\"seq\": 0}"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @QueryBudget(5)
+    void syncFromTheStart() throws Exception {
+        mockMvc.perform(authorized(get("/api/sync")).param("since", "0"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void reportsStatementsInHeadersAndMetrics() throws Exception {
+        mockMvc.perform(authorized(get("/api/chores")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Query-Count", "1"))
+                .andExpect(header().string("X-Query-Rows", Integer.toString(ROWS)))
+                .andExpect(header().exists("X-Query-Time-Ms"));
+
+        assertNotNull(meterRegistry.find("db.statements").tags("kind", "http", "name", "GET /api/chores")
+                .summary());
+        assertEquals(ROWS, meterRegistry.find("db.rows").tags("kind", "http", "name", "GET /api/chores")
+                .summary().max());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    // A freshly registered user, who has not joined a household
+    private String tokenWithoutAHousehold() {
+        return tokenProvider.generateToken(userRepository.save(User.builder()
+                .name("Dave")
+                .email("dave-" + householdId + "@chorecast.test")
+                .passwordHash("x")
+                .build()));
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private List<ExpenseRequest> expenses(int count) {
+        List<UUID> memberIds = members.stream().map(User::getId).toList();
+        List<ExpenseRequest> expenses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ExpenseRequest expense = new ExpenseRequest();
+            expense.setDescription("Groceries " + i);
+            expense.setAmount(new BigDecimal("30.00"));
+            expense.setPayerId(memberIds.get(i % memberIds.size()));
+            expense.setParticipants(memberIds);
+            expenses.add(expense);
+        }
+        return expenses;
+    }
+
+    private ChoreRequest chore(int i) {
+        ChoreRequest chore = new ChoreRequest();
+        chore.setName("Chore " + i);
+        chore.setFrequency(Chore.Frequency.WEEKLY);
+        chore.setAssignedTo(members.get(i % members.size()).getId());
+        return chore;
+    }
+}
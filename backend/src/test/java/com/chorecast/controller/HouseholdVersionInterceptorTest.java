@@ -0,0 +1,130 @@
+package com.chorecast.controller;
+
+import com.chorecast.event.HouseholdChangeEvent;
+import com.chorecast.security.AuthenticatedUser;
+import com.chorecast.service.HouseholdVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class HouseholdVersionInterceptorTest {
+    private final UUID householdId = UUID.randomUUID();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HouseholdVersions householdVersions = new HouseholdVersions(mock(JdbcTemplate.class), 1000,
+            meterRegistry);
+    private final HouseholdVersionInterceptor interceptor = new HouseholdVersionInterceptor(householdVersions);
+
+    @BeforeEach
+    void authenticate() {
+        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "a@chorecast.test", householdId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void answersAnUnchangedHouseholdWith304() throws Exception {
+        MockHttpServletResponse first = get(null, "versioned");
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals(200, first.getStatus());
+
+        MockHttpServletResponse second = get(etag, "versioned");
+        assertEquals(304, second.getStatus());
+        assertEquals(1.0, meterRegistry.get("household.etag.requests").tag("result", "not_modified").counter().count());
+    }
+
+    @Test
+    void aWriteChangesTheTag() throws Exception {
+        String etag = get(null, "versioned").getHeader(HttpHeaders.ETAG);
+
+        householdVersions.onHouseholdChange(
+                new HouseholdChangeEvent(householdId, HouseholdChangeEvent.Type.CHORE_CREATED, List.of()));
+
+        MockHttpServletResponse response = get(etag, "versioned");
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void otherHouseholdsKeepTheirTag() throws Exception {
+        String etag = get(null, "versioned").getHeader(HttpHeaders.ETAG);
+
+        householdVersions.onHouseholdChange(
+                new HouseholdChangeEvent(UUID.randomUUID(), HouseholdChangeEvent.Type.CHORE_CREATED, List.of()));
+
+        assertEquals(304, get(etag, "versioned").getStatus());
+    }
+
+    @Test
+    void aUserWithoutAHouseholdGetsNoTag() throws Exception {
+        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "new@chorecast.test", null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+
+        MockHttpServletResponse response = get(null, "versioned");
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void missedNotificationsInvalidateEveryTag() throws Exception {
+        String etag = get(null, "versioned").getHeader(HttpHeaders.ETAG);
+
+        householdVersions.invalidateAll();
+
+        assertEquals(200, get(etag, "versioned").getStatus());
+    }
+
+    @Test
+    void ignoresUnannotatedHandlers() throws Exception {
+        MockHttpServletResponse response = get(null, "unversioned");
+
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletResponse get(String ifNoneMatch, String handlerMethod) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/chores");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(new Handlers(), Handlers.class.getMethod(handlerMethod));
+
+        // The handler only runs when the interceptor lets the request through
+        boolean proceed = interceptor.preHandle(request, response, handler);
+        assertEquals(response.getStatus() != 304, proceed);
+        return response;
+    }
+
+    static class Handlers {
+        @HouseholdVersioned
+        public void versioned() {
+        }
+
+        public void unversioned() {
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.chorecast.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryStatsTest {
+
+    @Test
+    void statementsCountTowardsEveryOpenScope() {
+        try (QueryStats outer = QueryStats.open()) {
+            QueryStats.recordStatement(1_000_000, 2);
+            try (QueryStats inner = QueryStats.open()) {
+                QueryStats.recordStatement(2_000_000, 0);
+                QueryStats.recordRow();
+
+                assertEquals(1, inner.statements());
+                assertEquals(1, inner.rows());
+            }
+            assertEquals(outer, QueryStats.current());
+            assertEquals(2, outer.statements());
+            assertEquals(3, outer.rows());
+            assertEquals(3, outer.time().toMillis());
+        }
+        assertNull(QueryStats.current());
+    }
+
+    @Test
+    void propagatedTasksCountOnTheCallersScope() throws Exception {
+        try (QueryStats stats = QueryStats.open();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(QueryStats.propagate(() -> {
+                QueryStats.recordStatement(0, 1);
+                return null;
+            })).get();
+            executor.submit(() -> QueryStats.recordStatement(0, 1)).get();
+
+            assertEquals(1, stats.statements());
+        }
+    }
+
+    @Test
+    void scheduledRunsAreRecordedPerJob() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+                .observationHandler(new ScheduledJobQueryStats(new QueryStatsMetrics(meterRegistry)));
+
+        ScheduledTaskObservationContext context = new ScheduledTaskObservationContext(
+                this, QueryStatsTest.class.getDeclaredMethod("scheduledRunsAreRecordedPerJob"));
+        Observation.createNotStarted("tasks.scheduled.execution", () -> context, observationRegistry)
+                .observe(() -> {
+                    QueryStats.recordStatement(0, 5);
+                    QueryStats.recordStatement(0, 5);
+                });
+
+        assertNull(QueryStats.current());
+        assertEquals(2, meterRegistry.get("db.statements")
+                .tags("kind", "job", "name", "QueryStatsTest.scheduledRunsAreRecordedPerJob")
+                .summary().totalAmount());
+        assertEquals(10, meterRegistry.get("db.rows").tags("kind", "job").summary().totalAmount());
+    }
+}
@@ -0,0 +1,71 @@
+package com.chorecast.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScheduledJobMetricsTest {
+    private static final String JOB = "ScheduledJobMetricsTest.job";
+    private static final Instant NOW = Instant.parse("2026-01-01T02:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObservationRegistry observationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(
+                new ScheduledJobMetrics(meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC)));
+    }
+
+    @Test
+    void successfulRunsRecordDurationRowsAndLastSuccess() throws Exception {
+        run(() -> {
+            ScheduledJobMetrics.recordRows(3);
+            ScheduledJobMetrics.recordRows(4);
+        });
+        run(() -> { });
+
+        assertEquals(2, meterRegistry.get("scheduler.job.duration").tags("job", JOB, "outcome", "success")
+                .timer().count());
+        assertEquals(7, meterRegistry.get("scheduler.job.rows").tag("job", JOB).summary().totalAmount());
+        assertEquals(NOW.getEpochSecond(), meterRegistry.get("scheduler.job.last.success").tag("job", JOB)
+                .gauge().value());
+    }
+
+    @Test
+    void failedRunsLeaveLastSuccessUnset() throws Exception {
+        assertThrows(IllegalStateException.class, () -> run(() -> {
+            throw new IllegalStateException("SMTP down");
+        }));
+
+        assertEquals(1, meterRegistry.get("scheduler.job.duration").tags("job", JOB, "outcome", "failure")
+                .timer().count());
+        assertEquals(0, meterRegistry.get("scheduler.job.last.success").tag("job", JOB).gauge().value());
+
+        // Outside a scheduled run there is nothing to add to
+        ScheduledJobMetrics.recordRows(5);
+        assertEquals(0, meterRegistry.get("scheduler.job.rows").tag("job", JOB).summary().totalAmount());
+    }
+
+    private void run(Runnable body) throws Exception {
+        ScheduledTaskObservationContext context = new ScheduledTaskObservationContext(
+                this, ScheduledJobMetricsTest.class.getDeclaredMethod("job"));
+        Observation.createNotStarted("tasks.scheduled.execution", () -> context, observationRegistry)
+                .observe(body);
+    }
+
+    void job() {
+    }
+}
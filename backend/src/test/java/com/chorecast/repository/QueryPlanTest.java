@@ -0,0 +1,295 @@
+package com.chorecast.repository;
+
+import com.chorecast.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the migrated index set against sequential-scan regressions. Copies of
+ * the tables, indexes included, are seeded with production-like volumes in a
+ * separate schema so other tests never see the rows, and the SQL behind each
+ * repository finder is EXPLAINed against them.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest extends PostgresIntegrationTest {
+
+    private static final String SCHEMA = "query_plans";
+    private static final List<String> TABLES = List.of("users", "chores", "expenses", "expense_participants",
+            "reminders", "ledger_entries", "balances", "balance_snapshots", "change_log", "household_sequences",
+            "sync_acks");
+
+    // 2,000 households of 10 users; other volumes are per table
+    private static final String SEED_SQL = """
+            INSERT INTO users (id, name, email, password_hash, household_id, created_at, updated_at)
+            SELECT md5('u' || i)::uuid, 'User ' || i, 'user' || i || '@plans.test', 'x',
+                   md5('h' || i % 2000)::uuid, now(), now()
+            FROM generate_series(1, 20000) i;
+
+            -- Due dates spread over the next three weeks, about an hour's worth overdue
+            INSERT INTO chores (id, name, description, frequency, last_done, assigned_to, next_due, completed,
+                                household_id, created_at, updated_at)
+            SELECT md5('c' || i)::uuid, 'Chore ' || i, NULL, 'DAILY', now() - interval '1 day',
+                   md5('u' || i % 20000 + 1)::uuid, now() - interval '1 hour' + i % 30000 * interval '1 minute',
+                   i % 3 = 0, md5('h' || i % 2000)::uuid, now() - interval '30 days', now() - interval '1 day'
+            FROM generate_series(1, 100000) i;
+
+            INSERT INTO expenses (id, description, amount, payer_id, participants, household_id, settled, created_at)
+            SELECT md5('e' || i)::uuid, 'Expense ' || i, 30.00, md5('u' || i % 20000 + 1)::uuid,
+                   jsonb_build_array(md5('u' || i % 20000 + 1)::uuid, md5('u' || (i + 1) % 20000 + 1)::uuid),
+                   md5('h' || i % 2000)::uuid, i % 2 = 0, now() - i * interval '1 minute'
+            FROM generate_series(1, 100000) i;
+
+            INSERT INTO expense_participants (expense_id, user_id, household_id, share_cents, paid_cents, created_at)
+            SELECT md5('e' || i)::uuid, md5('u' || (i + k) % 20000 + 1)::uuid, md5('h' || i % 2000)::uuid,
+                   1500, CASE WHEN k = 0 THEN 3000 ELSE 0 END, now() - i * interval '1 minute'
+            FROM generate_series(1, 100000) i, generate_series(0, 1) k;
+
+            -- Nearly all delivered; the pending ones are what the sender scans for
+            INSERT INTO reminders (id, user_id, chore_id, occurrence_due, message, type, due_date, sent, status,
+                                   attempts)
+            SELECT md5('r' || i)::uuid, md5('u' || i % 20000 + 1)::uuid, md5('c' || i)::uuid,
+                   now() - i * interval '1 minute', 'Reminder ' || i, 'CHORE', now() - i * interval '1 minute',
+                   i % 50 <> 0, CASE WHEN i % 50 <> 0 THEN 'SENT' ELSE 'PENDING' END, 1
+            FROM generate_series(1, 100000) i;
+
+            INSERT INTO ledger_entries (id, household_id, expense_id, user_from, user_to, amount, entry_type,
+                                        created_at)
+            SELECT i, md5('h' || i % 2000)::uuid, md5('e' || i / 2 + 1)::uuid, md5('u' || i % 20000 + 1)::uuid,
+                   md5('u' || (i + 1) % 20000 + 1)::uuid, 15.00, 'CHARGE', now() - interval '1 day'
+            FROM generate_series(1, 200000) i;
+
+            INSERT INTO balances (id, household_id, user_from, user_to, amount, last_updated)
+            SELECT md5('b' || i)::uuid, md5('h' || i % 2000)::uuid, md5('u' || i % 20000 + 1)::uuid,
+                   md5('v' || i)::uuid, 15.00, now()
+            FROM generate_series(1, 40000) i;
+
+            INSERT INTO balance_snapshots (household_id, ledger_seq, taken_at)
+            SELECT md5('h' || i)::uuid, 199000, now() FROM generate_series(0, 1999) i;
+
+            INSERT INTO change_log (id, household_id, seq, entity_type, entity_id, operation, created_at)
+            SELECT i, md5('h' || i % 2000)::uuid, i / 2000 + 1, 'CHORE', md5('c' || i)::uuid, 'UPSERT', now()
+            FROM generate_series(1, 100000) i;
+
+            INSERT INTO household_sequences (household_id, last_seq, compacted_through)
+            SELECT md5('h' || i)::uuid, 50, 0 FROM generate_series(0, 1999) i;
+
+            INSERT INTO sync_acks (id, household_id, user_id, acked_seq, updated_at)
+            SELECT md5('a' || i)::uuid, md5('h' || i % 2000)::uuid, md5('u' || i)::uuid, 10, now()
+            FROM generate_series(1, 20000) i;
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        for (String table : TABLES) {
+            jdbcTemplate.execute("CREATE TABLE %1$s.%2$s (LIKE public.%2$s INCLUDING ALL EXCLUDING INDEXES)"
+                    .formatted(SCHEMA, table));
+            // Recreated from their definitions so the copies keep the migrated names
+            jdbcTemplate.queryForList("SELECT indexdef FROM pg_indexes WHERE schemaname = 'public' AND tablename = ?",
+                            String.class, table)
+                    .forEach(index -> jdbcTemplate.execute(index.replace(" ON public.", " ON " + SCHEMA + ".")));
+        }
+        inSchema(() -> {
+            jdbcTemplate.execute(SEED_SQL);
+            TABLES.forEach(table -> jdbcTemplate.execute("ANALYZE " + table));
+            return null;
+        });
+    }
+
+    @AfterAll
+    void dropSchema() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderDoesNotScanWholeTable(String finder, String table, String index, String sql, Object[] args) {
+        String plan = inSchema(() -> String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args)));
+
+        assertFalse(plan.contains("Seq Scan on " + table + " "), () -> finder + " scans " + table + ":\n" + plan);
+        if (index != null) {
+            assertTrue(plan.contains(index), () -> finder + " does not use " + index + ":\n" + plan);
+        }
+    }
+
+    Stream<Object[]> finders() {
+        UUID household = uuid("h7");
+        UUID user = uuid("u8");
+        UUID chore = uuid("c7");
+        UUID expense = uuid("e7");
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+
+        return Stream.of(
+                finder("ChoreRepository.findByHouseholdId", "chores",
+                        "SELECT * FROM chores WHERE household_id = ?", household),
+                finder("ChoreRepository.findByAssignedTo", "chores",
+                        "SELECT * FROM chores WHERE assigned_to = ?", user),
+                finder("ChoreRepository.findByNextDueBeforeAndCompletedFalse", "chores",
+                        "SELECT * FROM chores WHERE next_due < ? AND completed = false", nowTs),
+                finderUsing("ChoreRepository.findByHouseholdIdAndCompletedFalse", "chores",
+                        "idx_chores_household_completed_due",
+                        "SELECT * FROM chores WHERE household_id = ? AND completed = false", household),
+                finder("ChoreRepository.findResponsesByHouseholdIdAndIdIn", "chores",
+                        "SELECT id, name, next_due FROM chores WHERE household_id = ? AND id IN (?, ?)",
+                        household, chore, uuid("c2007")),
+                finder("ChoreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue", "chores", """
+                                SELECT id, household_id, next_due, completed FROM chores
+                                WHERE completed = false AND next_due < ? ORDER BY next_due LIMIT ?
+                                """,
+                        Timestamp.valueOf(now.plusDays(1)), 100001),
+                finder("ChoreRepository.findByCompletedFalseAndNextDueGreaterThanEqualAndNextDueBeforeOrderByNextDue",
+                        "chores", """
+                                SELECT id, household_id, next_due, completed FROM chores
+                                WHERE completed = false AND next_due >= ? AND next_due < ? ORDER BY next_due LIMIT ?
+                                """,
+                        Timestamp.valueOf(now.plusHours(12)), Timestamp.valueOf(now.plusDays(1).plusHours(12)),
+                        100001),
+                finder("ChoreRepository.findByUpdatedAtGreaterThanEqual", "chores",
+                        "SELECT id, household_id, next_due, completed FROM chores WHERE updated_at >= ?",
+                        Timestamp.valueOf(now.minusMinutes(1))),
+                finderUsing("ChoreRepository.resetCompletedChoresDueBefore", "chores",
+                        "idx_chores_completed_next_due", """
+                                UPDATE chores SET completed = false, updated_at = ?
+                                WHERE completed = true AND next_due < ?
+                                  AND get_byte(uuid_send(household_id), 15) % 64 IN (0, 1, 2, 3)
+                                RETURNING id, household_id
+                                """, nowTs, nowTs),
+                finderUsing("ChoreRepository.findPage(completed)", "chores",
+                        "idx_chores_household_completed_due", """
+                                SELECT id, name, next_due FROM chores
+                                WHERE household_id = ? AND completed = ? ORDER BY next_due, id LIMIT 21
+                                """, household, false),
+
+                finderUsing("ReminderRepository.findByDueDateBeforeAndSentFalse", "reminders",
+                        "idx_reminders_pending_due",
+                        "SELECT * FROM reminders WHERE due_date < ? AND sent = false", nowTs),
+                finder("ReminderRepository.findByUserId", "reminders",
+                        "SELECT * FROM reminders WHERE user_id = ?", user),
+                finderUsing("ReminderRepository.claimDue", "reminders",
+                        "idx_reminders_pending_due", """
+                                UPDATE reminders SET next_attempt_at = ?, attempts = attempts + 1
+                                WHERE id IN (
+                                    SELECT id FROM reminders
+                                    WHERE sent = false AND status = 'PENDING' AND due_date <= ?
+                                      AND (next_attempt_at IS NULL OR next_attempt_at <= ?)
+                                    ORDER BY due_date
+                                    LIMIT 200
+                                    FOR UPDATE SKIP LOCKED)
+                                RETURNING *
+                                """, Timestamp.valueOf(now.plusMinutes(10)), nowTs, nowTs),
+                finder("ReminderRepository.insertDueChoreReminders", "reminders", """
+                                SELECT c.id FROM chores c
+                                WHERE c.id IN (?, ?) AND c.next_due <= ?
+                                  AND NOT EXISTS (SELECT 1 FROM reminders r
+                                                  WHERE r.chore_id = c.id AND r.occurrence_due = c.next_due)
+                                """, chore, uuid("c2007"), nowTs),
+
+                finder("ExpenseRepository.findByHouseholdId", "expenses",
+                        "SELECT * FROM expenses WHERE household_id = ?", household),
+                finderUsing("ExpenseRepository.findByHouseholdIdAndSettledFalse", "expenses",
+                        "idx_expenses_household_settled_created",
+                        "SELECT * FROM expenses WHERE household_id = ? AND settled = false", household),
+                finderUsing("ExpenseRepository.findPage(settled)", "expenses",
+                        "idx_expenses_household_settled_created", """
+                                SELECT id, description, amount FROM expenses
+                                WHERE household_id = ? AND settled = ? ORDER BY created_at DESC, id DESC LIMIT 21
+                                """, household, false),
+                finder("ExpenseRepository.findByHouseholdIdAndIdInAndSettledFalse", "expenses",
+                        "SELECT * FROM expenses WHERE household_id = ? AND id IN (?, ?) AND settled = false FOR UPDATE",
+                        household, expense, uuid("e2007")),
+                finder("ExpenseRepository.findParticipantPage", "expense_participants", """
+                                SELECT e.id, e.description, e.amount
+                                FROM expense_participants p JOIN expenses e ON e.id = p.expense_id
+                                WHERE p.user_id = ? AND p.household_id = ?
+                                ORDER BY p.created_at DESC, p.expense_id DESC LIMIT 21
+                                """, user, uuid("h8")),
+                finder("ExpenseParticipantRepository.findTotalsByHouseholdId", "expense_participants", """
+                                SELECT p.user_id, SUM(p.paid_cents), SUM(p.share_cents)
+                                FROM expense_participants p JOIN expenses e ON e.id = p.expense_id
+                                WHERE p.household_id = ? AND e.settled = false
+                                GROUP BY p.user_id ORDER BY p.user_id
+                                """, household),
+                finder("ExpenseParticipantRepository.findByExpenseIdIn", "expense_participants",
+                        "SELECT * FROM expense_participants WHERE expense_id IN (?, ?)", expense, uuid("e2007")),
+
+                finder("BalanceRepository.findCurrentByUserTo", "ledger_entries", """
+                                SELECT l.user_from, l.user_to, l.amount
+                                FROM ledger_entries l
+                                LEFT JOIN balance_snapshots s ON s.household_id = l.household_id
+                                WHERE l.user_to = ? AND l.id > COALESCE(s.ledger_seq, 0)
+                                """, user),
+                finder("BalanceRepository.findCurrentByHouseholdId", "ledger_entries", """
+                                SELECT l.user_from, l.user_to, l.amount
+                                FROM ledger_entries l
+                                WHERE l.household_id = ?
+                                  AND l.id > COALESCE((SELECT s.ledger_seq FROM balance_snapshots s
+                                                       WHERE s.household_id = ?), 0)
+                                """, household, household),
+                finder("LedgerEntryRepository.findByExpenseIdOrderById", "ledger_entries",
+                        "SELECT * FROM ledger_entries WHERE expense_id = ? ORDER BY id", expense),
+                finder("LedgerEntryRepository.findHouseholdsWithEntriesAfter", "ledger_entries",
+                        "SELECT household_id, MAX(id) FROM ledger_entries WHERE id > ? GROUP BY household_id",
+                        199000L),
+
+                finder("UserRepository.findByEmail", "users",
+                        "SELECT * FROM users WHERE email = ?", "user8@plans.test"),
+                finder("UserRepository.findByHouseholdId", "users",
+                        "SELECT * FROM users WHERE household_id = ?", household),
+
+                finder("ChangeLogRepository.findByHouseholdIdAndSeqGreaterThanOrderBySeq", "change_log",
+                        "SELECT * FROM change_log WHERE household_id = ? AND seq > ? ORDER BY seq LIMIT 1001",
+                        household, 10L),
+                finder("ChangeLogRepository.compact", "users", """
+                                SELECT coalesce(min(coalesce(a.acked_seq, 0)), 0)
+                                FROM users u
+                                LEFT JOIN sync_acks a ON a.household_id = u.household_id AND a.user_id = u.id
+                                WHERE u.household_id = ?
+                                """, household));
+    }
+
+    private static Object[] finder(String name, String table, String sql, Object... args) {
+        return new Object[]{name, table, null, sql, args};
+    }
+
+    // For finders whose table has other indexes the planner could settle for
+    private static Object[] finderUsing(String name, String table, String index, String sql, Object... args) {
+        return new Object[]{name, table, index, sql, args};
+    }
+
+    private UUID uuid(String key) {
+        return jdbcTemplate.queryForObject("SELECT md5(?)::uuid", UUID.class, key);
+    }
+
+    // search_path is transaction-local, so pooled connections go back unchanged
+    private <T> T inSchema(Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL search_path TO " + SCHEMA);
+            return work.get();
+        });
+    }
+}
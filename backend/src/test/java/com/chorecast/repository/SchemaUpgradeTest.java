@@ -0,0 +1,147 @@
+package com.chorecast.repository;
+
+import com.chorecast.PostgresIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the migrations, with the application's Flyway settings, over a schema
+ * as ddl-auto created it before the migrations existed, and checks that the
+ * result matches a freshly migrated database without losing data.
+ */
+class SchemaUpgradeTest extends PostgresIntegrationTest {
+
+    private static final String SCHEMA = "schema_upgrade";
+
+    // What ddl-auto: update produced from the entities before the first migration
+    private static final String DDL_AUTO_SCHEMA = """
+            CREATE TABLE users (
+                id uuid NOT NULL PRIMARY KEY, created_at timestamp(6), email varchar(255) NOT NULL UNIQUE,
+                household_id uuid, name varchar(255) NOT NULL, password_hash varchar(255) NOT NULL,
+                updated_at timestamp(6));
+            CREATE TABLE chores (
+                id uuid NOT NULL PRIMARY KEY, assigned_to uuid NOT NULL, completed boolean NOT NULL,
+                created_at timestamp(6), description text,
+                frequency varchar(255) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY', 'CUSTOM')),
+                household_id uuid NOT NULL, last_done timestamp(6), name varchar(255) NOT NULL,
+                next_due timestamp(6) NOT NULL);
+            CREATE TABLE expenses (
+                id uuid NOT NULL PRIMARY KEY, amount numeric(10,2) NOT NULL, created_at timestamp(6),
+                description varchar(255) NOT NULL, household_id uuid NOT NULL, participants jsonb NOT NULL,
+                payer_id uuid NOT NULL, settled boolean NOT NULL);
+            CREATE TABLE reminders (
+                id uuid NOT NULL PRIMARY KEY, due_date timestamp(6) NOT NULL, message text NOT NULL,
+                sent boolean NOT NULL, type varchar(255) NOT NULL CHECK (type IN ('CHORE', 'EXPENSE')),
+                user_id uuid NOT NULL);
+            CREATE TABLE balances (
+                id uuid NOT NULL PRIMARY KEY, amount numeric(10,2) NOT NULL, household_id uuid NOT NULL,
+                last_updated timestamp(6), user_from uuid NOT NULL, user_to uuid NOT NULL);
+            """;
+
+    private static final String SEED_SQL = """
+            INSERT INTO expenses (id, amount, created_at, description, household_id, participants, payer_id, settled)
+            VALUES (md5('e1')::uuid, 10.00, now(), 'Groceries', md5('h')::uuid,
+                    jsonb_build_array(md5('alice')::uuid, md5('bob')::uuid), md5('alice')::uuid, false),
+                   (md5('e2')::uuid, 10.00, now(), 'Taxi', md5('h')::uuid,
+                    jsonb_build_array(md5('carol')::uuid, md5('alice')::uuid, md5('bob')::uuid), md5('bob')::uuid,
+                    false);
+            INSERT INTO reminders (id, due_date, message, sent, type, user_id)
+            VALUES (md5('r1')::uuid, now(), 'Delivered', true, 'CHORE', md5('alice')::uuid),
+                   (md5('r2')::uuid, now(), 'Pending', false, 'CHORE', md5('alice')::uuid);
+            -- Nothing kept a pair unique yet
+            INSERT INTO balances (id, amount, household_id, last_updated, user_from, user_to)
+            VALUES (md5('b1')::uuid, 3.00, md5('h')::uuid, now(), md5('bob')::uuid, md5('alice')::uuid),
+                   (md5('b2')::uuid, 2.00, md5('h')::uuid, now(), md5('bob')::uuid, md5('alice')::uuid);
+            """;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private FlywayProperties flywayProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    void upgradesADatabaseCreatedByDdlAuto() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL search_path TO " + SCHEMA);
+            jdbcTemplate.execute(DDL_AUTO_SCHEMA + SEED_SQL);
+        });
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .locations(flywayProperties.getLocations().toArray(String[]::new))
+                .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+                .baselineVersion(flywayProperties.getBaselineVersion())
+                .load()
+                .migrate();
+
+        assertEquals(columns("public"), columns(SCHEMA));
+        assertTrue(indexes(SCHEMA).containsAll(indexes("public")));
+
+        assertEquals(2, count("expense_participants WHERE expense_id = md5('e1')::uuid"));
+        // The odd cent goes to the first participant listed, so the shares add up to the amount
+        assertEquals(List.of(334L, 333L, 333L), jdbcTemplate.queryForList("""
+                SELECT share_cents FROM %s.expense_participants
+                WHERE expense_id = md5('e2')::uuid
+                ORDER BY array_position(ARRAY[md5('carol'), md5('alice'), md5('bob')]::uuid[], user_id)
+                """.formatted(SCHEMA), Long.class));
+        assertEquals(Map.of("Delivered", "SENT", "Pending", "PENDING"),
+                jdbcTemplate.queryForList("SELECT message, status FROM " + SCHEMA + ".reminders").stream()
+                        .collect(Collectors.toMap(row -> (String) row.get("message"),
+                                row -> (String) row.get("status"))));
+        assertEquals(List.of(new BigDecimal("5.00")),
+                jdbcTemplate.queryForList("SELECT amount FROM " + SCHEMA + ".balances", BigDecimal.class));
+    }
+
+    private Set<String> columns(String schema) {
+        return Set.copyOf(jdbcTemplate.queryForList("""
+                SELECT table_name || '.' || column_name || ' ' || data_type
+                       || coalesce('(' || character_maximum_length || ')', '')
+                       || coalesce('(' || numeric_precision || ',' || numeric_scale || ')', '')
+                       || CASE WHEN is_nullable = 'NO' THEN ' not null' ELSE '' END
+                FROM information_schema.columns
+                WHERE table_schema = ? AND table_name <> 'flyway_schema_history'
+                """, String.class, schema));
+    }
+
+    // The names the migrations give; ddl-auto named its own keys differently
+    private Set<String> indexes(String schema) {
+        return Set.copyOf(jdbcTemplate.queryForList("""
+                SELECT indexname FROM pg_indexes
+                WHERE schemaname = ? AND (indexname LIKE 'idx\\_%' OR indexname LIKE 'uk\\_%')
+                """, String.class, schema));
+    }
+
+    private int count(String from) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + "." + from, Integer.class);
+    }
+}
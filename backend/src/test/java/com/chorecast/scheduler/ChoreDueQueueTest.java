@@ -0,0 +1,122 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.repository.ChoreDueTime;
+import com.chorecast.repository.ChoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChoreDueQueueTest {
+    private final UUID householdId = UUID.randomUUID();
+    private ChoreRepository choreRepository;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository = mock(ChoreRepository.class);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void pollsOnlyChoresThatHaveComeDueInDueOrder() {
+        ChoreDueTime overdue = chore(now.minusHours(3));
+        ChoreDueTime dueNow = chore(now.minusSeconds(30));
+        ChoreDueTime later = chore(now.plusHours(2));
+        when(choreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue(any(), any()))
+                .thenReturn(List.of(overdue, dueNow, later));
+
+        ChoreDueQueue queue = new ChoreDueQueue(choreRepository, Duration.ofDays(1), 100, Duration.ofMinutes(1));
+        queue.rebuild();
+
+        assertEquals(List.of(overdue, dueNow), queue.pollDue(now));
+        assertEquals(List.of(), queue.pollDue(now));
+        assertEquals(List.of(later), queue.pollDue(now.plusHours(2)));
+    }
+
+    @Test
+    void scheduleReplacesTheChoresPreviousDueTime() {
+        ChoreDueTime chore = chore(now.minusMinutes(1));
+        when(choreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue(any(), any())).thenReturn(List.of(chore));
+
+        ChoreDueQueue queue = new ChoreDueQueue(choreRepository, Duration.ofDays(1), 100, Duration.ofMinutes(1));
+        queue.rebuild();
+
+        // Moved a day out, past the loaded window
+        queue.schedule(new ChoreDueTime(chore.id(), householdId, now.plusDays(2), false));
+        assertEquals(0, queue.size());
+
+        ChoreDueTime created = chore(now.plusMinutes(5));
+        queue.schedule(created);
+        assertEquals(List.of(created), queue.pollDue(now.plusMinutes(5)));
+    }
+
+    @Test
+    void completedChoresLeaveTheQueue() {
+        ChoreDueTime chore = chore(now.plusMinutes(5));
+        when(choreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue(any(), any()))
+                .thenReturn(List.of(chore));
+
+        ChoreDueQueue queue = new ChoreDueQueue(choreRepository, Duration.ofDays(1), 100, Duration.ofMinutes(1));
+        queue.rebuild();
+        queue.schedule(new ChoreDueTime(chore.id(), householdId, now.plusMinutes(10), true));
+
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void staysWithinMaxSizeAndLoadsTheRestLater() {
+        ChoreDueTime first = chore(now.plusMinutes(1));
+        ChoreDueTime second = chore(now.plusMinutes(2));
+        ChoreDueTime third = chore(now.plusMinutes(3));
+        when(choreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue(any(), any()))
+                .thenReturn(List.of(first, second, third));
+        when(choreRepository.findByCompletedFalseAndNextDueGreaterThanEqualAndNextDueBeforeOrderByNextDue(any(), any(), any()))
+                .thenReturn(List.of(third));
+
+        ChoreDueQueue queue = new ChoreDueQueue(choreRepository, Duration.ofDays(1), 2, Duration.ofMinutes(1));
+        queue.rebuild();
+        assertEquals(2, queue.size());
+
+        // Full queue: nothing is read until a slot frees up
+        queue.advance(now);
+        verify(choreRepository, never())
+                .findByCompletedFalseAndNextDueGreaterThanEqualAndNextDueBeforeOrderByNextDue(any(), any(), any());
+
+        assertEquals(List.of(first), queue.pollDue(now.plusMinutes(1)));
+        queue.advance(now.plusMinutes(1));
+        verify(choreRepository).findByCompletedFalseAndNextDueGreaterThanEqualAndNextDueBeforeOrderByNextDue(
+                third.nextDue(), now.plusMinutes(1).plusDays(1), Limit.of(2));
+        assertEquals(List.of(second, third), queue.pollDue(now.plusMinutes(3)));
+    }
+
+    @Test
+    void restoresChoresWhoseRemindersFailed() {
+        ChoreDueTime chore = chore(now.minusMinutes(1));
+        when(choreRepository.findByCompletedFalseAndNextDueBeforeOrderByNextDue(any(), any())).thenReturn(List.of(chore));
+
+        ChoreDueQueue queue = new ChoreDueQueue(choreRepository, Duration.ofDays(1), 100, Duration.ofMinutes(1));
+        queue.rebuild();
+
+        List<ChoreDueTime> due = queue.pollDue(now);
+        queue.restore(due);
+        assertEquals(due, queue.pollDue(now));
+        assertTrue(queue.pollDue(now).isEmpty());
+    }
+
+    private ChoreDueTime chore(LocalDateTime nextDue) {
+        return new ChoreDueTime(UUID.randomUUID(), householdId, nextDue, false);
+    }
+}
@@ -0,0 +1,79 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.repository.LedgerEntryRepository;
+import com.chorecast.repository.LedgerHouseholdHead;
+import com.chorecast.service.BalanceService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LedgerSchedulerTest {
+    private final LedgerEntryRepository ledgerEntryRepository = mock(LedgerEntryRepository.class);
+    private final BalanceService balanceService = mock(BalanceService.class);
+    private final SchedulerCluster schedulerCluster = mock(SchedulerCluster.class);
+
+    // An entry with a lower id than one already scanned may still be committing
+    @Test
+    void scansStayBehindRecentIdsUntilTheMarginPasses() {
+        LedgerScheduler scheduler = scheduler(Duration.ofHours(1));
+        when(ledgerEntryRepository.findHouseholdsWithEntriesAfter(anyLong())).thenReturn(List.of(head(42)));
+
+        scheduler.snapshotBalances();
+        scheduler.snapshotBalances();
+
+        verify(ledgerEntryRepository, times(2)).findHouseholdsWithEntriesAfter(0);
+    }
+
+    @Test
+    void scansMovePastIdsOlderThanTheMargin() {
+        LedgerScheduler scheduler = scheduler(Duration.ZERO);
+        when(ledgerEntryRepository.findHouseholdsWithEntriesAfter(anyLong())).thenReturn(List.of(head(42)));
+
+        scheduler.snapshotBalances();
+        scheduler.snapshotBalances();
+
+        verify(ledgerEntryRepository).findHouseholdsWithEntriesAfter(0);
+        verify(ledgerEntryRepository).findHouseholdsWithEntriesAfter(42);
+    }
+
+    @Test
+    void acquiredShardsAreScannedFromTheStart() {
+        LedgerScheduler scheduler = scheduler(Duration.ZERO);
+        when(ledgerEntryRepository.findHouseholdsWithEntriesAfter(anyLong())).thenReturn(List.of(head(42)));
+
+        scheduler.snapshotBalances();
+        scheduler.onShardsAcquired();
+        scheduler.snapshotBalances();
+
+        verify(ledgerEntryRepository, times(2)).findHouseholdsWithEntriesAfter(0);
+    }
+
+    private LedgerScheduler scheduler(Duration lateCommitMargin) {
+        when(schedulerCluster.owns(any())).thenReturn(true);
+        return new LedgerScheduler(ledgerEntryRepository, balanceService, schedulerCluster, lateCommitMargin);
+    }
+
+    private static LedgerHouseholdHead head(long latestSeq) {
+        UUID householdId = UUID.randomUUID();
+        return new LedgerHouseholdHead() {
+            @Override
+            public UUID getHouseholdId() {
+                return householdId;
+            }
+
+            @Override
+            public Long getLatestSeq() {
+                return latestSeq;
+            }
+        };
+    }
+}
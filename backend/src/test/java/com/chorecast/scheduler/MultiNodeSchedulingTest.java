@@ -0,0 +1,186 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.ChoreCastApplication;
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.model.Chore;
+import com.chorecast.repository.ChoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs three application instances against one database: the test context
+ * plus two started here. Jobs are invoked by hand on every node at once.
+ */
+class MultiNodeSchedulingTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ConfigurableApplicationContext primary;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ConfigurableApplicationContext> extraNodes = new ArrayList<>();
+
+    @BeforeEach
+    void startNodes() {
+        for (int i = 0; i < 2; i++) {
+            // Arguments, not default properties, so they override application.yml
+            extraNodes.add(new SpringApplicationBuilder(ChoreCastApplication.class).run(
+                    "--server.port=0",
+                    "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                    "--spring.datasource.username=" + POSTGRES.getUsername(),
+                    "--spring.datasource.password=" + POSTGRES.getPassword(),
+                    "--spring.jpa.show-sql=false",
+                    "--app.scheduler.enabled=false"));
+        }
+        heartbeatAll();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        extraNodes.forEach(ConfigurableApplicationContext::close);
+        extraNodes.clear();
+        heartbeatAll();
+    }
+
+    @Test
+    void shardsArePartitionedAndMoveWhenANodeLeaves() {
+        assertPartitioned();
+
+        extraNodes.remove(1).close();
+        heartbeatAll();
+
+        assertEquals(2, nodes().size());
+        assertPartitioned();
+    }
+
+    @Test
+    void dueChoreRemindersAreCreatedExactlyOnce() throws Exception {
+        List<Chore> chores = choreRepository.saveAll(chores(300, false));
+        List<UUID> choreIds = chores.stream().map(Chore::getId).toList();
+
+        runOnEveryNode(node -> () -> {
+            node.getBean(ChoreScheduler.class).remindDueChores();
+            return 0;
+        });
+        runOnEveryNode(node -> () -> {
+            node.getBean(ChoreScheduler.class).remindDueChores();
+            return 0;
+        });
+
+        UUID[] ids = choreIds.toArray(UUID[]::new);
+        assertEquals(choreIds.size(), jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM reminders WHERE chore_id = ANY(?)", Integer.class, (Object) ids));
+        assertEquals(choreIds.size(), jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT chore_id) FROM reminders WHERE chore_id = ANY(?)", Integer.class, (Object) ids));
+    }
+
+    @Test
+    void recurringResetTouchesEachChoreOnce() throws Exception {
+        choreRepository.saveAll(chores(200, true));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Integer> resetPerNode = runOnEveryNode(node -> () -> {
+            SchedulerCluster cluster = node.getBean(SchedulerCluster.class);
+            return node.getBean(ChoreRepository.class)
+                    .resetCompletedChoresDueBefore(now, cluster.shardCount(), cluster.ownedShards()).size();
+        });
+
+        // Disjoint shards: the per-node counts add up to the chores reset, with none counted twice
+        assertEquals(200, resetPerNode.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    private void assertPartitioned() {
+        Set<Integer> union = new HashSet<>();
+        int total = 0;
+        for (ConfigurableApplicationContext node : nodes()) {
+            Set<Integer> owned = node.getBean(SchedulerCluster.class).ownedShards();
+            assertFalse(owned.isEmpty());
+            union.addAll(owned);
+            total += owned.size();
+        }
+        int shardCount = primary.getBean(SchedulerCluster.class).shardCount();
+        assertEquals(shardCount, union.size());
+        assertEquals(shardCount, total);
+    }
+
+    // Two rounds: the first registers every node, the second sees all of them
+    private void heartbeatAll() {
+        for (int round = 0; round < 2; round++) {
+            nodes().forEach(node -> node.getBean(SchedulerCluster.class).heartbeat());
+        }
+    }
+
+    private <T> List<T> runOnEveryNode(Function<ConfigurableApplicationContext, Callable<T>> job) throws Exception {
+        List<ConfigurableApplicationContext> nodes = nodes();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(nodes.size())) {
+            for (ConfigurableApplicationContext node : nodes) {
+                Callable<T> task = job.apply(node);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+        }
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private List<ConfigurableApplicationContext> nodes() {
+        List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+        nodes.add(primary);
+        nodes.addAll(extraNodes);
+        return nodes;
+    }
+
+    private static List<Chore> chores(int count, boolean completed) {
+        List<UUID> households = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            households.add(UUID.randomUUID());
+        }
+        LocalDateTime due = LocalDateTime.now().minusMinutes(1);
+        List<Chore> chores = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            chores.add(Chore.builder()
+                    .name("Chore " + i)
+                    .frequency(Chore.Frequency.DAILY)
+                    .assignedTo(UUID.randomUUID())
+                    .lastDone(due.minusDays(1))
+                    .nextDue(due)
+                    .completed(completed)
+                    .householdId(households.get(i % households.size()))
+                    .build());
+        }
+        return chores;
+    }
+}
@@ -0,0 +1,93 @@
+package com.chorecast.scheduler;
+
+import com.chorecast.repository.SchedulerNodeRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchedulerClusterTest {
+    private static final int SHARDS = 64;
+
+    @Test
+    void everyShardHasExactlyOneOwner() {
+        List<UUID> nodes = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        Set<Integer> seen = new HashSet<>();
+        int total = 0;
+        for (UUID node : nodes) {
+            Set<Integer> owned = SchedulerCluster.assign(node, nodes, SHARDS);
+            assertTrue(owned.size() > 5, "rendezvous hashing should spread shards, got " + owned.size());
+            seen.addAll(owned);
+            total += owned.size();
+        }
+
+        assertEquals(SHARDS, total);
+        assertEquals(SHARDS, seen.size());
+    }
+
+    @Test
+    void onlyTheDeadNodesShardsMove() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        Set<Integer> aBefore = SchedulerCluster.assign(a, List.of(a, b, c), SHARDS);
+        Set<Integer> bBefore = SchedulerCluster.assign(b, List.of(a, b, c), SHARDS);
+        Set<Integer> cBefore = SchedulerCluster.assign(c, List.of(a, b, c), SHARDS);
+
+        Set<Integer> aAfter = SchedulerCluster.assign(a, List.of(a, b), SHARDS);
+        Set<Integer> bAfter = SchedulerCluster.assign(b, List.of(a, b), SHARDS);
+
+        assertTrue(aAfter.containsAll(aBefore));
+        assertTrue(bAfter.containsAll(bBefore));
+        Set<Integer> moved = new HashSet<>(aAfter);
+        moved.addAll(bAfter);
+        moved.removeAll(aBefore);
+        moved.removeAll(bBefore);
+        assertEquals(cBefore, moved);
+    }
+
+    @Test
+    void aNodeMissingFromTheLiveSetOwnsNothing() {
+        UUID live = UUID.randomUUID();
+
+        assertEquals(Set.of(), SchedulerCluster.assign(UUID.randomUUID(), List.of(live), SHARDS));
+        assertEquals(SHARDS, SchedulerCluster.assign(live, List.of(live), SHARDS).size());
+    }
+
+    @Test
+    void aLapsedLeaseGivesUpShardsUntilTheNextHeartbeatReacquiresThem() throws InterruptedException {
+        SchedulerNodeRepository nodeRepository = mock(SchedulerNodeRepository.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        Duration lease = Duration.ofMillis(50);
+        SchedulerCluster cluster = new SchedulerCluster(nodeRepository, eventPublisher, SHARDS, lease);
+        when(nodeRepository.findLiveNodeIds(anyLong())).thenReturn(List.of(cluster.nodeId()));
+
+        cluster.heartbeat();
+        assertEquals(SHARDS, cluster.ownedShards().size());
+
+        // A stalled heartbeat: other nodes may already process these shards
+        Thread.sleep(lease.multipliedBy(2).toMillis());
+        assertEquals(Set.of(), cluster.ownedShards());
+
+        cluster.heartbeat();
+        assertEquals(SHARDS, cluster.ownedShards().size());
+        // Re-acquiring the shards rebuilds the due queue, bringing back chores polled while lapsed
+        ArgumentCaptor<ShardsAcquiredEvent> events = ArgumentCaptor.forClass(ShardsAcquiredEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(SHARDS, events.getValue().shards().size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.chorecast.security;
+
+import com.chorecast.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JwtTokenProviderTest {
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider();
+    private final AuthenticatedUser alice =
+            new AuthenticatedUser(UUID.randomUUID(), "alice@chorecast.test", UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "a-test-secret-that-is-long-enough-for-hmac-sha-256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "streamTicketExpiration", 30_000L);
+        tokenProvider.init();
+    }
+
+    @Test
+    void aStreamTicketOnlyOpensTheStream() {
+        String ticket = tokenProvider.generateStreamTicket(alice);
+
+        assertEquals(alice, tokenProvider.parseStreamTicket(ticket));
+        // Leaked from an access log, it is no good as a bearer token
+        assertNull(tokenProvider.parseClaims(ticket));
+    }
+
+    @Test
+    void aSessionTokenIsNotAStreamTicket() {
+        String token = tokenProvider.generateToken(User.builder()
+                .id(alice.id())
+                .email(alice.email())
+                .householdId(alice.householdId())
+                .build());
+
+        assertNotNull(tokenProvider.parseClaims(token));
+        assertNull(tokenProvider.parseStreamTicket(token));
+    }
+
+    @Test
+    void anExpiredTicketIsRejected() {
+        ReflectionTestUtils.setField(tokenProvider, "streamTicketExpiration", -1_000L);
+
+        assertNull(tokenProvider.parseStreamTicket(tokenProvider.generateStreamTicket(alice)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.chorecast.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("""
+                description,amount\r
+                "Rent, March",1000.00\r
+                \r
+                "Said ""hi""
+                twice",,
+                last,1"""));
+
+        assertEquals(List.of("description", "amount"), reader.next());
+        assertEquals(1, reader.line());
+        assertEquals(List.of("Rent, March", "1000.00"), reader.next());
+        assertEquals(2, reader.line());
+        assertEquals(List.of("Said \"hi\"\ntwice", "", ""), reader.next());
+        assertEquals(4, reader.line());
+        assertEquals(List.of("last", "1"), reader.next());
+        assertEquals(6, reader.line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void readsRecordsLongerThanItsBuffer() throws IOException {
+        String description = "x".repeat(20_000);
+        CsvReader reader = new CsvReader(new StringReader(description + ",1\n\"" + description + "\",2\n"));
+
+        assertEquals(List.of(description, "1"), reader.next());
+        assertEquals(List.of(description, "2"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void rejectsAQuoteThatIsNeverClosed() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("name\n\"Dishes\nVacuum\n"));
+        reader.next();
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, reader::next);
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertEquals("line 2: quoted field is not closed", e.getReason());
+    }
+
+    @Test
+    void stopsReadingARecordPastTheLimit() {
+        // An endless field is rejected without reading the whole body
+        Reader endless = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                Arrays.fill(buffer, offset, offset + length, 'x');
+                return length;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThrows(ResponseStatusException.class, () -> new CsvReader(endless).next());
+    }
+}
@@ -0,0 +1,94 @@
+package com.chorecast.service;
+
+import com.chorecast.dto.DashboardResponse;
+import com.chorecast.security.AuthenticatedUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+    private final ChoreService choreService = mock(ChoreService.class);
+    private final ExpenseService expenseService = mock(ExpenseService.class);
+    private final BalanceService balanceService = mock(BalanceService.class);
+    private final UserCache userCache = mock(UserCache.class);
+    private final DashboardService dashboardService =
+            new DashboardService(choreService, expenseService, balanceService, userCache);
+    private final AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "a@chorecast.test", UUID.randomUUID());
+
+    @Test
+    void sectionsLoadConcurrently() {
+        when(choreService.getHouseholdChores(any())).thenAnswer(invocation -> slow(List.of()));
+        when(expenseService.getHouseholdExpenses(any())).thenAnswer(invocation -> slow(List.of()));
+        when(balanceService.getHouseholdBalances(any())).thenAnswer(invocation -> slow(List.of()));
+        when(userCache.findByHouseholdId(any())).thenAnswer(invocation -> slow(List.of()));
+
+        long startedAt = System.nanoTime();
+        DashboardResponse response = dashboardService.getDashboard(user, EnumSet.allOf(DashboardService.Section.class));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Four 300 ms queries: sequential would take 1.2 s
+        assertTrue(elapsedMillis < 900, "took " + elapsedMillis + " ms");
+        assertEquals(List.of(), response.getChores());
+        assertEquals(List.of(), response.getUsers());
+    }
+
+    @Test
+    void onlyRequestedSectionsAreLoaded() {
+        DashboardResponse response = dashboardService.getDashboard(user, DashboardService.Section.parse(List.of("chores")));
+
+        assertEquals(List.of(), response.getChores());
+        assertNull(response.getExpenses());
+        verifyNoInteractions(expenseService, balanceService, userCache);
+    }
+
+    @Test
+    void sectionNamesAreCaseInsensitiveAndValidated() {
+        assertEquals(Set.of(DashboardService.Section.BALANCES, DashboardService.Section.USERS),
+                DashboardService.Section.parse(List.of("Balances", " users")));
+        assertEquals(EnumSet.allOf(DashboardService.Section.class), DashboardService.Section.parse(null));
+        assertThrows(ResponseStatusException.class, () -> DashboardService.Section.parse(List.of("reminders")));
+    }
+
+    @Test
+    void aFailingSectionFailsTheRequest() {
+        when(expenseService.getHouseholdExpenses(any())).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class,
+                () -> dashboardService.getDashboard(user, EnumSet.allOf(DashboardService.Section.class)));
+    }
+
+    @Test
+    void aFailingSectionCancelsTheSlowerOnes() {
+        when(choreService.getHouseholdChores(any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return List.of();
+        });
+        when(expenseService.getHouseholdExpenses(any())).thenThrow(new IllegalStateException("boom"));
+
+        long startedAt = System.nanoTime();
+        assertThrows(IllegalStateException.class,
+                () -> dashboardService.getDashboard(user, EnumSet.of(DashboardService.Section.CHORES,
+                        DashboardService.Section.EXPENSES)));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertTrue(elapsedMillis < 5_000, "took " + elapsedMillis + " ms");
+    }
+
+    private static <T> T slow(T result) throws InterruptedException {
+        Thread.sleep(300);
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.chorecast.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DebtSimplifierBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int members;
+
+    private long[] net;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        net = new long[members];
+        long total = 0;
+        for (int i = 0; i < members - 1; i++) {
+            net[i] = random.nextLong(-500_000, 500_000);
+            total += net[i];
+        }
+        net[members - 1] = -total;
+    }
+
+    @Benchmark
+    public DebtSimplifier.Transfers simplify() {
+        return DebtSimplifier.simplify(net);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DebtSimplifierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.chorecast.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DebtSimplifierTest {
+
+    @Test
+    void collapsesAChainIntoOneTransfer() {
+        // 0 owes 1 $10, 1 owes 2 $10: only 0 -> 2 is needed
+        DebtSimplifier.Transfers transfers = DebtSimplifier.simplify(new long[]{-1000, 0, 1000});
+
+        assertEquals(1, transfers.count());
+        assertEquals(0, transfers.from()[0]);
+        assertEquals(2, transfers.to()[0]);
+        assertEquals(1000, transfers.cents()[0]);
+    }
+
+    @Test
+    void settlesEveryPositionWithAtMostNMinusOneTransfers() {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] net = new long[300];
+        long total = 0;
+        for (int i = 0; i < net.length - 1; i++) {
+            net[i] = random.nextLong(-100_000, 100_000);
+            total += net[i];
+        }
+        net[net.length - 1] = -total;
+
+        DebtSimplifier.Transfers transfers = DebtSimplifier.simplify(net);
+
+        long[] settled = net.clone();
+        for (int i = 0; i < transfers.count(); i++) {
+            assertTrue(transfers.cents()[i] > 0);
+            settled[transfers.from()[i]] += transfers.cents()[i];
+            settled[transfers.to()[i]] -= transfers.cents()[i];
+        }
+        assertArrayEquals(new long[net.length], settled);
+        assertTrue(transfers.count() <= net.length - 1);
+    }
+
+    @Test
+    void returnsNothingWhenEveryoneIsEven() {
+        assertEquals(0, DebtSimplifier.simplify(new long[]{0, 0, 0}).count());
+        assertEquals(0, DebtSimplifier.simplify(new long[0]).count());
+    }
+}
@@ -0,0 +1,198 @@
+package com.chorecast.service;
+
+import com.chorecast.model.Reminder;
+import com.chorecast.model.User;
+import com.chorecast.repository.ReminderRepository;
+import com.chorecast.repository.UserRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private ReminderRepository reminderRepository;
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        reminderRepository = mock(ReminderRepository.class);
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void deliversEveryClaimedReminder() {
+        int count = 1000;
+        List<User> users = users(50);
+        List<Reminder> reminders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reminders.add(reminder(users.get(i % users.size()).getId(), 1));
+        }
+        when(reminderRepository.claimDue(any(), any(), anyInt()))
+                .thenReturn(reminders.subList(0, 500), reminders.subList(500, count), List.of());
+        when(userRepository.findAllById(any())).thenReturn(users);
+
+        EmailService emailService = emailService(greenMail.getSmtp().getPort(), 8);
+        long startedAt = System.nanoTime();
+        int delivered = emailService.sendDueReminders();
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        assertEquals(count, delivered);
+        assertTrue(greenMail.waitForIncomingEmail(10_000, count));
+        assertEquals(count, greenMail.getReceivedMessages().length);
+        System.out.printf("Delivered %d reminders over 8 connections: %.0f messages/sec%n", count, count / seconds);
+
+        ArgumentCaptor<Collection<UUID>> sent = ArgumentCaptor.captor();
+        verify(reminderRepository, times(2)).markSent(sent.capture());
+        assertEquals(count, sent.getAllValues().stream().mapToInt(Collection::size).sum());
+    }
+
+    @Test
+    void deadLettersRemindersWithoutRecipient() {
+        List<User> users = users(1);
+        Reminder deliverable = reminder(users.get(0).getId(), 1);
+        Reminder orphaned = reminder(UUID.randomUUID(), 1);
+        when(reminderRepository.claimDue(any(), any(), anyInt())).thenReturn(List.of(deliverable, orphaned));
+        when(userRepository.findAllById(any())).thenReturn(users);
+
+        int delivered = emailService(greenMail.getSmtp().getPort(), 4).sendDueReminders();
+
+        assertEquals(1, delivered);
+        verify(reminderRepository).markSent(List.of(deliverable.getId()));
+        verify(reminderRepository).markDead(eq(orphaned.getId()), anyString());
+        assertEquals(1, meterRegistry.get("email.messages").tag("result", "sent").counter().count());
+        assertEquals(1, meterRegistry.get("email.messages").tag("result", "dead").counter().count());
+        assertEquals(1, meterRegistry.get("email.failures").tag("reason", "RecipientNotFound").counter().count());
+        assertEquals(1, meterRegistry.get("email.send").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void retriesWithBackoffThenDeadLetters() {
+        List<User> users = users(1);
+        Reminder firstAttempt = reminder(users.get(0).getId(), 1);
+        Reminder lastAttempt = reminder(users.get(0).getId(), 5);
+        when(reminderRepository.claimDue(any(), any(), anyInt())).thenReturn(List.of(firstAttempt, lastAttempt));
+        when(userRepository.findAllById(any())).thenReturn(users);
+
+        // Nothing listens on this port, so every send fails to connect
+        LocalDateTime before = LocalDateTime.now();
+        int delivered = emailService(greenMail.getSmtp().getPort() + 1, 2).sendDueReminders();
+
+        assertEquals(0, delivered);
+        verify(reminderRepository, never()).markSent(anyCollection());
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reminderRepository).markForRetry(eq(firstAttempt.getId()), nextAttempt.capture(), anyString());
+        assertTrue(!nextAttempt.getValue().isBefore(before.plusMinutes(1)));
+        verify(reminderRepository).markDead(eq(lastAttempt.getId()), anyString());
+        assertEquals(1, meterRegistry.get("email.messages").tag("result", "retried").counter().count());
+        assertEquals(1, meterRegistry.get("email.messages").tag("result", "dead").counter().count());
+        assertEquals(2, meterRegistry.get("email.failures").counters().stream().mapToDouble(Counter::count).sum());
+        assertTrue(meterRegistry.get("email.send").tag("outcome", "failure").timer().count() > 0);
+    }
+
+    @Test
+    void aChunkThatThrowsIsRetriedWithoutLosingTheOthers() {
+        List<User> users = users(2);
+        Reminder delivered = reminder(users.get(0).getId(), 1);
+        Reminder broken = reminder(users.get(1).getId(), 1);
+        when(reminderRepository.claimDue(any(), any(), anyInt())).thenReturn(List.of(delivered, broken));
+        when(userRepository.findAllById(any())).thenReturn(users);
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(SimpleMailMessage... messages) {
+                if (Arrays.stream(messages).anyMatch(message -> message.getTo()[0].equals(users.get(1).getEmail()))) {
+                    throw new IllegalStateException("Template rendering failed");
+                }
+                super.send(messages);
+            }
+        };
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        // Two reminders over two connections: one chunk each
+        int sent = emailService(mailSender, 2).sendDueReminders();
+
+        assertEquals(1, sent);
+        verify(reminderRepository).markSent(List.of(delivered.getId()));
+        verify(reminderRepository).markForRetry(eq(broken.getId()), any(), eq("Template rendering failed"));
+        assertEquals(1, meterRegistry.get("email.failures").tag("reason", "IllegalStateException").counter().count());
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        EmailService emailService = emailService(greenMail.getSmtp().getPort(), 1);
+
+        assertEquals(Duration.ofMinutes(1), emailService.backoff(1));
+        assertEquals(Duration.ofMinutes(2), emailService.backoff(2));
+        assertEquals(Duration.ofMinutes(32), emailService.backoff(6));
+        assertEquals(Duration.ofHours(1), emailService.backoff(7));
+        assertEquals(Duration.ofHours(1), emailService.backoff(60));
+    }
+
+    private EmailService emailService(int smtpPort, int concurrency) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        return emailService(mailSender, concurrency);
+    }
+
+    private EmailService emailService(JavaMailSenderImpl mailSender, int concurrency) {
+        return new EmailService(mailSender, reminderRepository, userRepository, meterRegistry, 500, concurrency, 5,
+                Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMinutes(10), "chorecast@noreply.com");
+    }
+
+    private static List<User> users(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .id(UUID.randomUUID())
+                    .name("User " + i)
+                    .email("user" + i + "@chorecast.test")
+                    .build());
+        }
+        return users;
+    }
+
+    private static Reminder reminder(UUID userId, int attempts) {
+        Reminder reminder = new Reminder();
+        reminder.setId(UUID.randomUUID());
+        reminder.setUserId(userId);
+        reminder.setMessage("Time to take out the trash");
+        reminder.setType(Reminder.ReminderType.CHORE);
+        reminder.setDueDate(LocalDateTime.now());
+        reminder.setAttempts(attempts);
+        return reminder;
+    }
+}
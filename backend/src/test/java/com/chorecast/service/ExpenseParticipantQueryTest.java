@@ -0,0 +1,162 @@
+package com.chorecast.service;
+
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.dto.ExpenseRequest;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.dto.ExpenseTotalResponse;
+import com.chorecast.dto.PageResponse;
+import com.chorecast.model.LedgerEntry;
+import com.chorecast.repository.LedgerEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpenseParticipantQueryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID householdId;
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+
+    @BeforeEach
+    void setUp() {
+        householdId = UUID.randomUUID();
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+        carol = UUID.randomUUID();
+    }
+
+    @Test
+    void pagesThroughOnlyTheExpensesAUserIsIn() {
+        List<UUID> aliceAndBob = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            aliceAndBob.add(expenseService.createExpense(expense("10.00", alice, alice, bob), householdId).getId());
+            expenseService.createExpense(expense("10.00", carol, carol, alice), householdId);
+        }
+        // Bob paid for Carol only, which still involves him
+        UUID paidByBob = expenseService.createExpense(expense("4.00", bob, carol), householdId).getId();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<ExpenseResponse> page = expenseService.getUserExpensePage(householdId, bob, cursor, 2);
+            page.getItems().forEach(expense -> seen.add(expense.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<UUID> expected = new ArrayList<>(aliceAndBob);
+        expected.add(paidByBob);
+        assertEquals(expected.reversed(), seen);
+        assertEquals(10, expenseService.getUserExpensePage(householdId, alice, null, 50).getItems().size());
+    }
+
+    @Test
+    void totalsAreSummedPerMember() {
+        expenseService.createExpense(expense("30.00", alice, alice, bob, carol), householdId);
+        ExpenseResponse dinner = expenseService.createExpense(expense("20.00", bob, alice, bob), householdId);
+        expenseService.createExpense(expense("4.00", bob, carol), householdId);
+        expenseService.settleExpense(dinner.getId(), householdId);
+
+        Map<UUID, ExpenseTotalResponse> all = byUser(expenseService.getHouseholdTotals(householdId, null));
+        assertAmount("30.00", all.get(alice).getPaid());
+        assertAmount("20.00", all.get(alice).getShare());
+        assertAmount("10.00", all.get(alice).getNet());
+        assertAmount("24.00", all.get(bob).getPaid());
+        assertAmount("20.00", all.get(bob).getShare());
+        assertAmount("0.00", all.get(carol).getPaid());
+        assertAmount("-14.00", all.get(carol).getNet());
+
+        Map<UUID, ExpenseTotalResponse> unsettled = byUser(expenseService.getHouseholdTotals(householdId, false));
+        assertAmount("10.00", unsettled.get(alice).getShare());
+        assertAmount("4.00", unsettled.get(bob).getPaid());
+        assertNull(byUser(expenseService.getHouseholdTotals(UUID.randomUUID(), null)).get(alice));
+    }
+
+    @Test
+    void unevenSplitsAddUpToTheAmountAndSettleToZero() {
+        ExpenseResponse taxi = expenseService.createExpense(expense("10.00", alice, alice, bob, carol), householdId);
+
+        // The leftover cent goes to the first participant
+        Map<UUID, ExpenseTotalResponse> totals = byUser(expenseService.getHouseholdTotals(householdId, null));
+        assertAmount("3.34", totals.get(alice).getShare());
+        assertAmount("3.33", totals.get(bob).getShare());
+        assertAmount("3.33", totals.get(carol).getShare());
+        assertAmount("6.66", sum(ledgerEntryRepository.findByExpenseIdOrderById(taxi.getId())));
+
+        expenseService.settleExpense(taxi.getId(), householdId);
+
+        assertAmount("0.00", sum(ledgerEntryRepository.findByExpenseIdOrderById(taxi.getId())));
+    }
+
+    @Test
+    void expensesWithoutChargesAreReversedFromTheirStoredShares() {
+        ExpenseResponse legacy = expenseService.createExpense(expense("10.00", alice, alice, bob, carol), householdId);
+        // As if created before the ledger: only the expense_participants rows exist
+        jdbcTemplate.update("DELETE FROM ledger_entries WHERE expense_id = ?", legacy.getId());
+
+        expenseService.settleExpense(legacy.getId(), householdId);
+
+        List<LedgerEntry> reversals = ledgerEntryRepository.findByExpenseIdOrderById(legacy.getId());
+        assertEquals(2, reversals.size());
+        assertAmount("-6.66", sum(reversals));
+    }
+
+    @Test
+    void settlingLeavesOtherHouseholdsExpensesAlone() {
+        ExpenseResponse ours = expenseService.createExpense(expense("10.00", alice, alice, bob), householdId);
+        UUID otherHousehold = UUID.randomUUID();
+        ExpenseResponse theirs = expenseService.createExpense(expense("8.00", carol, carol, bob), otherHousehold);
+
+        expenseService.settleExpenses(List.of(ours.getId(), theirs.getId()), householdId);
+        assertThrows(RuntimeException.class, () -> expenseService.settleExpense(theirs.getId(), householdId));
+
+        assertTrue(expenseService.getHouseholdExpensesById(householdId, List.of(ours.getId())).get(0).getSettled());
+        assertFalse(expenseService.getHouseholdExpensesById(otherHousehold, List.of(theirs.getId())).get(0)
+                .getSettled());
+        assertAmount("4.00", sum(ledgerEntryRepository.findByExpenseIdOrderById(theirs.getId())));
+    }
+
+    private static BigDecimal sum(List<LedgerEntry> entries) {
+        return entries.stream().map(LedgerEntry::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static Map<UUID, ExpenseTotalResponse> byUser(List<ExpenseTotalResponse> totals) {
+        return totals.stream().collect(Collectors.toMap(ExpenseTotalResponse::getUserId, total -> total));
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+
+    private static ExpenseRequest expense(String amount, UUID payer, UUID... participants) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDescription("Shared cost");
+        request.setAmount(new BigDecimal(amount));
+        request.setPayerId(payer);
+        request.setParticipants(List.of(participants));
+        return request;
+    }
+}
@@ -0,0 +1,101 @@
+package com.chorecast.service;
+
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.dto.BalanceResponse;
+import com.chorecast.dto.ExpenseRequest;
+import com.chorecast.dto.ExpenseResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExpenseServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int TOTAL_EXPENSES = 640;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 64})
+    void concurrentExpensesForTheSamePairLoseNoUpdates(int writers) throws Exception {
+        UUID householdId = UUID.randomUUID();
+        UUID payer = UUID.randomUUID();
+        UUID participant = UUID.randomUUID();
+        int perWriter = TOTAL_EXPENSES / writers;
+
+        long elapsedNanos = runConcurrently(writers, () -> {
+            for (int i = 0; i < perWriter; i++) {
+                expenseService.createExpense(expense(payer, participant), householdId);
+            }
+        });
+
+        BalanceResponse balance = balanceService.getUserDebts(participant).get(0);
+        BigDecimal expected = new BigDecimal("5.00").multiply(BigDecimal.valueOf((long) perWriter * writers));
+        assertEquals(0, expected.compareTo(balance.getAmount()),
+                "expected " + expected + " but was " + balance.getAmount());
+
+        double perSecond = perWriter * writers / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("%2d concurrent writers: %,.0f expenses/sec%n", writers, perSecond);
+    }
+
+    @Test
+    void concurrentSettlesReverseAnExpenseOnce() throws Exception {
+        UUID householdId = UUID.randomUUID();
+        UUID payer = UUID.randomUUID();
+        UUID participant = UUID.randomUUID();
+        expenseService.createExpense(expense(payer, participant), householdId);
+        ExpenseResponse toSettle = expenseService.createExpense(expense(payer, participant), householdId);
+
+        runConcurrently(8, () -> expenseService.settleExpense(toSettle.getId(), householdId));
+
+        BalanceResponse balance = balanceService.getUserDebts(participant).get(0);
+        assertEquals(0, new BigDecimal("5.00").compareTo(balance.getAmount()));
+    }
+
+    private static ExpenseRequest expense(UUID payer, UUID participant) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDescription("Groceries");
+        request.setAmount(new BigDecimal("10.00"));
+        request.setPayerId(payer);
+        request.setParticipants(List.of(payer, participant));
+        return request;
+    }
+
+    private static long runConcurrently(int threads, Runnable work) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    work.run();
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
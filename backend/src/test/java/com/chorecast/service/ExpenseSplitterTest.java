@@ -0,0 +1,89 @@
+package com.chorecast.service;
+
+import com.chorecast.dto.ExpenseRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpenseSplitterTest {
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @Test
+    void equalSplitsCountRepeatedParticipantsOnce() {
+        ExpenseSplitter.Split split = ExpenseSplitter.split(
+                request("10.00", null, List.of(alice, bob, alice, carol), null));
+
+        assertEquals(List.of(alice, bob, carol), split.participants());
+        assertArrayEquals(new long[]{334, 333, 333}, split.shareCents());
+    }
+
+    @Test
+    void weightsMayHaveDecimals() {
+        // Rent by room size in m²
+        ExpenseSplitter.Split split = ExpenseSplitter.split(request("1000.00", ExpenseRequest.SplitType.WEIGHTS,
+                List.of(alice, bob, carol), values("12.5", "10", "7.5")));
+
+        assertArrayEquals(new long[]{41667, 33333, 25000}, split.shareCents());
+    }
+
+    @Test
+    void percentagesAndExactAmountsAddUpToTheAmount() {
+        ExpenseSplitter.Split byIncome = ExpenseSplitter.split(request("99.99", ExpenseRequest.SplitType.PERCENTAGES,
+                List.of(alice, bob, carol), values("33.33", "33.33", "33.34")));
+        assertArrayEquals(new long[]{3333, 3333, 3333}, byIncome.shareCents());
+
+        ExpenseSplitter.Split exact = ExpenseSplitter.split(request("12.00", ExpenseRequest.SplitType.EXACT,
+                List.of(alice, bob), values("4.50", "7.50")));
+        assertArrayEquals(new long[]{450, 750}, exact.shareCents());
+        assertEquals(1200, exact.amountCents());
+    }
+
+    @Test
+    void rejectsSplitsThatDoNotDescribeTheAmount() {
+        List<UUID> both = List.of(alice, bob);
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.PERCENTAGES, both, values("50", "40")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.PERCENTAGES, both, values("50.005", "49.995")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.EXACT, both, values("5.00", "4.99")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.EXACT, both, values("5.005", "4.995")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.WEIGHTS, both, values("0", "0")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.WEIGHTS, both, values("1", "-1")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.WEIGHTS, both, values("1")));
+        assertBadRequest(request("10.00", ExpenseRequest.SplitType.WEIGHTS, List.of(alice, alice), values("1", "2")));
+        assertBadRequest(request("10.00", null, both, values("1", "2")));
+        assertBadRequest(request("10.001", null, both, null));
+        assertBadRequest(request("0.00", null, both, null));
+        assertBadRequest(request("10.00", null, List.of(), null));
+    }
+
+    private static void assertBadRequest(ExpenseRequest request) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> ExpenseSplitter.split(request));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private ExpenseRequest request(String amount, ExpenseRequest.SplitType splitType, List<UUID> participants,
+                                   List<BigDecimal> splitValues) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDescription("Rent");
+        request.setAmount(new BigDecimal(amount));
+        request.setPayerId(alice);
+        request.setParticipants(participants);
+        request.setSplitType(splitType);
+        request.setSplitValues(splitValues);
+        return request;
+    }
+
+    private static List<BigDecimal> values(String... values) {
+        return Arrays.stream(values).map(BigDecimal::new).toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.chorecast.service;
+
+import com.chorecast.event.HouseholdChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HouseholdStreamServiceTest {
+    private final HouseholdStreamService streamService =
+            new HouseholdStreamService(Duration.ofMinutes(30), 4, new SimpleMeterRegistry());
+
+    @Test
+    void fansOutOnlyToTheChangedHousehold() throws Exception {
+        UUID household = UUID.randomUUID();
+        RecordingEmitter first = new RecordingEmitter(1);
+        RecordingEmitter second = new RecordingEmitter(1);
+        RecordingEmitter neighbour = new RecordingEmitter(1);
+        streamService.register(household, first);
+        streamService.register(household, second);
+        streamService.register(UUID.randomUUID(), neighbour);
+
+        streamService.onHouseholdChange(changed(household));
+
+        assertTrue(first.await());
+        assertTrue(second.await());
+        assertEquals(0, neighbour.sent.get());
+    }
+
+    @Test
+    void aStalledSubscriberIsDroppedWithoutHoldingUpOthers() throws Exception {
+        UUID household = UUID.randomUUID();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(1) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                super.send(builder);
+                try {
+                    neverReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RecordingEmitter healthy = new RecordingEmitter(10);
+        streamService.register(household, stalled);
+        streamService.register(household, healthy);
+
+        try {
+            // The healthy client keeps up; the stalled one takes the first event and then never drains
+            for (int i = 0; i < 10; i++) {
+                streamService.onHouseholdChange(changed(household));
+                awaitSent(healthy, i + 1);
+            }
+
+            assertTrue(healthy.await());
+            assertEquals(1, streamService.subscriberCount());
+        } finally {
+            // Lets the stalled writer's virtual thread finish
+            neverReleased.countDown();
+        }
+    }
+
+    @Test
+    void holdsTensOfThousandsOfIdleSubscribers() throws Exception {
+        int households = 5_000;
+        int perHousehold = 4;
+        List<UUID> householdIds = new ArrayList<>();
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int h = 0; h < households; h++) {
+            UUID household = UUID.randomUUID();
+            householdIds.add(household);
+            for (int i = 0; i < perHousehold; i++) {
+                RecordingEmitter emitter = new RecordingEmitter(1);
+                streamService.register(household, emitter);
+                emitters.add(emitter);
+            }
+        }
+        assertEquals(households * perHousehold, streamService.subscriberCount());
+
+        streamService.heartbeat();
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.await());
+        }
+
+        List<RecordingEmitter> changed = emitters.subList(42 * perHousehold, 43 * perHousehold);
+        changed.forEach(emitter -> emitter.expect(1));
+        streamService.onHouseholdChange(changed(householdIds.get(42)));
+        for (RecordingEmitter emitter : changed) {
+            assertTrue(emitter.await());
+        }
+        int received = emitters.stream().mapToInt(emitter -> emitter.sent.get()).sum();
+        assertEquals(emitters.size() + perHousehold, received);
+    }
+
+    private static void awaitSent(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.sent.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static HouseholdChangeEvent changed(UUID household) {
+        return new HouseholdChangeEvent(household, HouseholdChangeEvent.Type.CHORE_COMPLETED, List.of(UUID.randomUUID()));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final AtomicInteger sent = new AtomicInteger();
+        volatile CountDownLatch expected;
+
+        RecordingEmitter(int expectedEvents) {
+            expect(expectedEvents);
+        }
+
+        void expect(int events) {
+            expected = new CountDownLatch(events);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sent.incrementAndGet();
+            expected.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return expected.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
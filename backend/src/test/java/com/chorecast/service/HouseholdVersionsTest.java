@@ -0,0 +1,46 @@
+package com.chorecast.service;
+
+import com.chorecast.event.HouseholdChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class HouseholdVersionsTest {
+    private final UUID householdId = UUID.randomUUID();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void writesOnAnotherNodeChangeTheTag() {
+        HouseholdVersions writer = new HouseholdVersions(jdbcTemplate, 100, new SimpleMeterRegistry());
+        HouseholdVersions reader = new HouseholdVersions(jdbcTemplate, 100, new SimpleMeterRegistry());
+        String etag = reader.etag(householdId);
+
+        writer.broadcast(new HouseholdChangeEvent(householdId, HouseholdChangeEvent.Type.EXPENSE_CREATED, List.of()));
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).queryForList(anyString(), eq(HouseholdVersions.CHANNEL), payload.capture());
+        reader.onNotification((String) payload.getValue());
+
+        assertNotEquals(etag, reader.etag(householdId));
+    }
+
+    @Test
+    void otherHouseholdsKeepTheirTagAfterANotification() {
+        HouseholdVersions versions = new HouseholdVersions(jdbcTemplate, 100, new SimpleMeterRegistry());
+        String etag = versions.etag(householdId);
+
+        versions.onNotification(UUID.randomUUID().toString());
+
+        assertEquals(etag, versions.etag(householdId));
+    }
+}
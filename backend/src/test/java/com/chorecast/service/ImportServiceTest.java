@@ -0,0 +1,221 @@
+package com.chorecast.service;
+
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.dto.BalanceResponse;
+import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.dto.ImportResponse;
+import com.chorecast.event.HouseholdChangeEvent;
+import com.chorecast.model.Chore;
+import com.chorecast.model.User;
+import com.chorecast.repository.UserRepository;
+import com.chorecast.scheduler.ChoreDueQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Small batches and error lists, so a few rows cover several batches and a truncated report; a due queue
+// reaching past the imported chores' first due time
+@SpringBootTest(properties = {"app.import.batch-size=2", "app.import.max-errors=2", "app.scheduler.due-horizon=30d"})
+@RecordApplicationEvents
+class ImportServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChoreDueQueue choreDueQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private UUID householdId;
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        householdId = UUID.randomUUID();
+        alice = member("Alice");
+        bob = member("Bob");
+        carol = member("Carol");
+    }
+
+    @Test
+    void csvExpensesAreImportedAndBadRowsReported() {
+        String csv = """
+                description,amount,payerId,participants,splitType,splitValues
+                Rent,90.00,%1$s,%1$s;%2$s;%3$s,,
+                "Dinner, Friday",20.00,%5$s,%4$s;%5$s,EXACT,5;15
+                Taxi,abc,%1$s,%2$s,,
+                Pizza,10.00,mallory@chorecast.test,%1$s,,
+                Gift,10.00,%1$s,%2$s;%3$s,PERCENTAGES,50;40
+                Cinema,12.00,%3$s,%1$s;%3$s,,
+                """.formatted(alice.getEmail(), bob.getEmail(), carol.getEmail(), alice.getId(), bob.getId());
+
+        ImportResponse report = importService.importExpenses(new StringReader(csv), ImportService.Format.CSV,
+                householdId);
+
+        assertEquals(6, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(4L, 5L), report.getErrors().stream().map(ImportResponse.RowError::getLine).toList());
+        assertEquals("amount must be a number, not 'abc'", report.getErrors().get(0).getMessage());
+        assertTrue(report.isErrorsTruncated());
+        // Both batches are announced in one event, not one each
+        assertEquals(List.of(3), events.stream(HouseholdChangeEvent.class)
+                .map(event -> event.entityIds().size())
+                .toList());
+
+        assertEquals(Map.of(
+                        List.of(bob.getId(), alice.getId()), new BigDecimal("30.00"),
+                        List.of(carol.getId(), alice.getId()), new BigDecimal("30.00"),
+                        List.of(alice.getId(), bob.getId()), new BigDecimal("5.00"),
+                        List.of(alice.getId(), carol.getId()), new BigDecimal("6.00")),
+                balances());
+        // One charge per debtor and payer, not per expense or batch
+        assertEquals(4, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM ledger_entries WHERE household_id = ? AND expense_id IS NULL",
+                Integer.class, householdId));
+
+        // Settling an imported expense reverses its stored shares
+        UUID rent = expenseService.getHouseholdExpenses(householdId).stream()
+                .filter(expense -> expense.getDescription().equals("Rent"))
+                .map(ExpenseResponse::getId)
+                .findFirst()
+                .orElseThrow();
+        expenseService.settleExpense(rent, householdId);
+        assertEquals(Map.of(
+                        List.of(alice.getId(), bob.getId()), new BigDecimal("5.00"),
+                        List.of(alice.getId(), carol.getId()), new BigDecimal("6.00")),
+                balances());
+    }
+
+    @Test
+    void ndjsonChoresAreImportedAndScheduled() {
+        String ndjson = """
+                {"name":"Dishes","frequency":"DAILY","assignedTo":"%s"}
+
+                {"name":"Vacuum","frequency":
+                {"name":"Laundry","frequency":"WEEKLY","assignedTo":"%s"}
+                {"name":"Bins","description":"Tuesday night","frequency":"WEEKLY","assignedTo":"%s"}
+                """.formatted(alice.getId(), UUID.randomUUID(), bob.getId());
+
+        LocalDateTime before = LocalDateTime.now();
+        ImportResponse report = importService.importChores(new StringReader(ndjson), ImportService.Format.NDJSON,
+                householdId);
+
+        assertEquals(4, report.getRows());
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(3L, 4L), report.getErrors().stream().map(ImportResponse.RowError::getLine).toList());
+        assertFalse(report.isErrorsTruncated());
+
+        Map<String, ChoreResponse> chores = choreService.getHouseholdChores(householdId).stream()
+                .collect(Collectors.toMap(ChoreResponse::getName, chore -> chore));
+        assertEquals(Map.of("Dishes", Chore.Frequency.DAILY, "Bins", Chore.Frequency.WEEKLY),
+                chores.values().stream().collect(Collectors.toMap(ChoreResponse::getName, ChoreResponse::getFrequency)));
+        assertFalse(chores.get("Dishes").getNextDue().isBefore(before.plusDays(1)));
+        assertEquals("Tuesday night", chores.get("Bins").getDescription());
+    }
+
+    @Test
+    void csvChoreColumnsMayComeInAnyOrder() {
+        String csv = """
+                AssignedTo,FREQUENCY,Name
+                %s,monthly,Defrost the freezer
+                %s,weekly,
+                """.formatted(carol.getEmail().toUpperCase(), bob.getId());
+
+        ImportResponse report = importService.importChores(new StringReader(csv), ImportService.Format.CSV,
+                householdId);
+
+        assertEquals(1, report.getImported());
+        assertEquals("name is required", report.getErrors().get(0).getMessage());
+        ChoreResponse chore = choreService.getHouseholdChores(householdId).get(0);
+        assertEquals(carol.getId(), chore.getAssignedTo());
+        assertEquals(Chore.Frequency.MONTHLY, chore.getFrequency());
+    }
+
+    @Test
+    void rejectsAnUnknownColumnBeforeWriting() {
+        String csv = """
+                description,amount,payer,participants
+                Rent,90.00,%1$s,%1$s
+                """.formatted(alice.getEmail());
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () ->
+                importService.importExpenses(new StringReader(csv), ImportService.Format.CSV, householdId));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertTrue(expenseService.getHouseholdExpenses(householdId).isEmpty());
+    }
+
+    @Test
+    void onlyCommittedChoresAreQueued() {
+        choreDueQueue.rebuild();
+        int queued = choreDueQueue.size();
+        String csv = """
+                name,frequency,assignedTo
+                Dishes,daily,%1$s
+                Bins,weekly,%1$s
+                """.formatted(alice.getEmail());
+
+        // The first batch is written before the broken quote rolls the import back
+        assertThrows(ResponseStatusException.class, () -> importService.importChores(
+                new StringReader(csv + "\"Vacuum,daily,%s\n".formatted(alice.getEmail())), ImportService.Format.CSV,
+                householdId));
+        assertEquals(queued, choreDueQueue.size());
+
+        importService.importChores(new StringReader(csv), ImportService.Format.CSV, householdId);
+        assertEquals(queued + 2, choreDueQueue.size());
+    }
+
+    private Map<List<UUID>, BigDecimal> balances() {
+        return balanceService.getHouseholdBalances(householdId).stream()
+                .collect(Collectors.toMap(balance -> List.of(balance.getUserFrom(), balance.getUserTo()),
+                        BalanceResponse::getAmount));
+    }
+
+    private User member(String name) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + householdId + "@chorecast.test")
+                .passwordHash("x")
+                .householdId(householdId)
+                .build());
+    }
+}
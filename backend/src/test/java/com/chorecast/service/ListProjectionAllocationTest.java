@@ -0,0 +1,135 @@
+package com.chorecast.service;
+
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.model.Chore;
+import com.chorecast.model.Expense;
+import com.chorecast.repository.ChoreRepository;
+import com.chorecast.repository.ExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares heap allocated per list request by the old path (managed entities
+ * in a read-write transaction, copied into DTOs) with the DTO projections in
+ * read-only transactions that the services use now.
+ */
+class ListProjectionAllocationTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 500;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID householdId;
+
+    @BeforeEach
+    void setUp() {
+        householdId = UUID.randomUUID();
+        UUID payer = UUID.randomUUID();
+        UUID participant = UUID.randomUUID();
+        List<Chore> chores = new ArrayList<>();
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            chores.add(Chore.builder()
+                    .name("Chore " + i)
+                    .description("Weekly chore " + i)
+                    .frequency(Chore.Frequency.WEEKLY)
+                    .assignedTo(payer)
+                    .lastDone(LocalDateTime.now())
+                    .nextDue(LocalDateTime.now().plusDays(7))
+                    .completed(false)
+                    .householdId(householdId)
+                    .build());
+            expenses.add(Expense.builder()
+                    .description("Expense " + i)
+                    .amount(new BigDecimal("12.50"))
+                    .payerId(payer)
+                    .participants(List.of(payer, participant))
+                    .settled(false)
+                    .householdId(householdId)
+                    .build());
+        }
+        choreRepository.saveAll(chores);
+        expenseRepository.saveAll(expenses);
+    }
+
+    @Test
+    void choreListAllocatesLessThroughProjections() {
+        long before = bytesPerCall(() -> transactionTemplate.execute(status -> choreRepository
+                .findByHouseholdId(householdId).stream()
+                .map(ListProjectionAllocationTest::toResponse)
+                .toList()));
+        long after = bytesPerCall(() -> choreService.getHouseholdChores(householdId));
+
+        report("GET /api/chores", before, after);
+        assertTrue(after < before);
+    }
+
+    @Test
+    void expenseListAllocatesLessThroughProjections() {
+        long before = bytesPerCall(() -> transactionTemplate.execute(status -> expenseRepository
+                .findByHouseholdId(householdId).stream()
+                .map(ListProjectionAllocationTest::toResponse)
+                .toList()));
+        long after = bytesPerCall(() -> expenseService.getHouseholdExpenses(householdId));
+
+        report("GET /api/expenses", before, after);
+        assertTrue(after < before);
+    }
+
+    private static long bytesPerCall(Supplier<List<?>> call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(ROWS, call.get().size());
+        }
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+    }
+
+    private static void report(String endpoint, long before, long after) {
+        System.out.printf("%s with %d rows: %,d bytes/request with entities, %,d with projections (%.0f%% less)%n",
+                endpoint, ROWS, before, after, 100.0 * (before - after) / before);
+    }
+
+    private static ChoreResponse toResponse(Chore chore) {
+        return new ChoreResponse(chore.getId(), chore.getName(), chore.getDescription(), chore.getFrequency(),
+                chore.getLastDone(), chore.getAssignedTo(), chore.getNextDue(), chore.getCompleted());
+    }
+
+    private static ExpenseResponse toResponse(Expense expense) {
+        return new ExpenseResponse(expense.getId(), expense.getDescription(), expense.getAmount(),
+                expense.getPayerId(), expense.getParticipants(), expense.getCreatedAt(), expense.getSettled());
+    }
+}
@@ -0,0 +1,73 @@
+package com.chorecast.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a batch of expenses the old way, one BigDecimal HALF_UP division per
+ * expense and a BigDecimal share per participant, against
+ * {@link Money#splitEvenly} into a reused long[].
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final int EXPENSES = 1000;
+
+    @Param({"2", "5", "20"})
+    private int participants;
+
+    private BigDecimal[] amounts;
+    private long[] amountCents;
+    private long[] shares;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = new BigDecimal[EXPENSES];
+        amountCents = new long[EXPENSES];
+        for (int i = 0; i < EXPENSES; i++) {
+            amountCents[i] = random.nextLong(1, 1_000_000);
+            amounts[i] = BigDecimal.valueOf(amountCents[i], 2);
+        }
+        shares = new long[participants];
+    }
+
+    @Benchmark
+    public void bigDecimalHalfUp(Blackhole blackhole) {
+        BigDecimal count = BigDecimal.valueOf(participants);
+        for (BigDecimal amount : amounts) {
+            BigDecimal share = amount.divide(count, 2, RoundingMode.HALF_UP);
+            for (int p = 0; p < participants; p++) {
+                blackhole.consume(share.movePointRight(2).longValueExact());
+            }
+        }
+    }
+
+    @Benchmark
+    public void longLargestRemainder(Blackhole blackhole) {
+        for (long cents : amountCents) {
+            Money.splitEvenly(cents, shares, participants);
+            for (int p = 0; p < participants; p++) {
+                blackhole.consume(shares[p]);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.chorecast.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Test
+    void evenSplitsHandTheLeftoverCentsToTheFirstMembers() {
+        long[] shares = new long[3];
+        Money.splitEvenly(1000, shares, 3);
+        assertArrayEquals(new long[]{334, 333, 333}, shares);
+
+        Money.splitEvenly(5, shares, 3);
+        assertArrayEquals(new long[]{2, 2, 1}, shares);
+    }
+
+    @Test
+    void weightedSplitsHandTheLeftoverCentsToTheLargestRemainders() {
+        // Exact shares are 28.57, 42.85 and 28.57 cents of 100 split 2:3:2
+        long[] shares = new long[3];
+        Money.allocate(100, new long[]{2, 3, 2}, shares, 3);
+        assertArrayEquals(new long[]{29, 43, 28}, shares);
+
+        // A zero weight gets nothing, even with cents left over
+        Money.allocate(1001, new long[]{1, 0, 1}, shares, 3);
+        assertArrayEquals(new long[]{501, 0, 500}, shares);
+    }
+
+    @Test
+    void sharesAlwaysAddUpToTheAmount() {
+        SplittableRandom random = new SplittableRandom(11);
+        long[] weights = new long[50];
+        long[] shares = new long[50];
+        for (int round = 0; round < 1000; round++) {
+            int count = random.nextInt(1, 50);
+            long cents = random.nextLong(0, 10_000_000_000L);
+            for (int i = 0; i < count; i++) {
+                weights[i] = random.nextLong(0, 10_000);
+            }
+            weights[0] = Math.max(weights[0], 1);
+
+            Money.allocate(cents, weights, shares, count);
+            assertEquals(cents, sum(shares, count));
+            Money.splitEvenly(cents, shares, count);
+            assertEquals(cents, sum(shares, count));
+            assertTrue(shares[0] - shares[count - 1] <= 1);
+        }
+    }
+
+    @Test
+    void rejectsFractionsOfACentAndImpossibleSplits() {
+        assertEquals(1005, Money.toCents(new BigDecimal("10.05")));
+        assertEquals(new BigDecimal("10.05"), Money.fromCents(1005));
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(new BigDecimal("10.005")));
+        assertThrows(IllegalArgumentException.class, () -> Money.splitEvenly(100, new long[1], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.allocate(100, new long[]{0, 0}, new long[2], 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.allocate(100, new long[]{-1, 2}, new long[2], 2));
+    }
+
+    private static long sum(long[] shares, int count) {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += shares[i];
+        }
+        return sum;
+    }
+}
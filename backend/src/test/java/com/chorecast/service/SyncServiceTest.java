@@ -0,0 +1,187 @@
+package com.chorecast.service;
+
+import com.chorecast.PostgresIntegrationTest;
+import com.chorecast.dto.ChoreRequest;
+import com.chorecast.dto.ChoreResponse;
+import com.chorecast.dto.ExpenseRequest;
+import com.chorecast.dto.ExpenseResponse;
+import com.chorecast.dto.SyncResponse;
+import com.chorecast.model.Chore;
+import com.chorecast.model.User;
+import com.chorecast.repository.UserRepository;
+import com.chorecast.scheduler.SchedulerCluster;
+import com.chorecast.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private SchedulerCluster schedulerCluster;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID householdId;
+    private AuthenticatedUser alice;
+    private AuthenticatedUser bob;
+
+    @BeforeEach
+    void setUp() {
+        householdId = UUID.randomUUID();
+        alice = member("alice");
+        bob = member("bob");
+    }
+
+    @Test
+    void returnsOnlyWhatChangedSinceTheClientsSequence() {
+        SyncResponse initial = syncService.sync(alice, null, 100);
+        assertTrue(initial.isReset());
+
+        ChoreResponse chore = choreService.createChore(chore("Dishes"), householdId);
+        SyncResponse afterChore = syncService.sync(alice, initial.getSeq(), 100);
+        assertFalse(afterChore.isReset());
+        assertEquals(List.of(chore.getId()), afterChore.getChores().stream().map(ChoreResponse::getId).toList());
+        assertTrue(afterChore.getExpenses().isEmpty());
+        assertNull(afterChore.getBalances());
+
+        choreService.completeChore(chore.getId(), householdId);
+        ExpenseResponse expense = expenseService.createExpense(expense(), householdId);
+        SyncResponse afterExpense = syncService.sync(alice, afterChore.getSeq(), 100);
+        // The chore changed twice but is sent once, with its latest state
+        assertEquals(1, afterExpense.getChores().size());
+        assertTrue(afterExpense.getChores().get(0).getCompleted());
+        assertEquals(expense.getId(), afterExpense.getExpenses().get(0).getId());
+        assertNotNull(afterExpense.getBalances());
+
+        SyncResponse upToDate = syncService.sync(alice, afterExpense.getSeq(), 100);
+        assertEquals(afterExpense.getSeq(), upToDate.getSeq());
+        assertTrue(upToDate.getChores().isEmpty());
+    }
+
+    @Test
+    void recurringResetsAreSynced() {
+        ChoreResponse chore = choreService.createChore(chore("Bins"), householdId);
+        choreService.completeChore(chore.getId(), householdId);
+        long seq = syncService.sync(alice, null, 100).getSeq();
+
+        // The nightly job, run on the node owning this household's shard once the chore is due again
+        int reset = choreService.resetCompletedChores(LocalDateTime.now().plusDays(8),
+                schedulerCluster.shardCount(), Set.of(schedulerCluster.shardOf(householdId)));
+
+        assertTrue(reset >= 1);
+        SyncResponse afterReset = syncService.sync(alice, seq, 100);
+        assertEquals(List.of(chore.getId()), afterReset.getChores().stream().map(ChoreResponse::getId).toList());
+        assertFalse(afterReset.getChores().get(0).getCompleted());
+    }
+
+    @Test
+    void pagesThroughLongBacklogs() {
+        long start = syncService.sync(alice, null, 100).getSeq();
+        for (int i = 0; i < 5; i++) {
+            choreService.createChore(chore("Chore " + i), householdId);
+        }
+
+        SyncResponse first = syncService.sync(alice, start, 3);
+        assertTrue(first.isHasMore());
+        assertEquals(3, first.getChores().size());
+
+        SyncResponse second = syncService.sync(alice, first.getSeq(), 3);
+        assertFalse(second.isHasMore());
+        assertEquals(2, second.getChores().size());
+    }
+
+    @Test
+    void compactsOnlyWhatEveryMemberAcknowledged() {
+        long start = syncService.sync(alice, null, 100).getSeq();
+        choreService.createChore(chore("Vacuum"), householdId);
+        long head = syncService.sync(alice, start, 100).getSeq();
+
+        syncService.acknowledge(alice, head);
+        // Bob has not caught up, so his delta is still there
+        assertFalse(syncService.sync(bob, start, 100).isReset());
+
+        syncService.acknowledge(bob, head);
+        SyncResponse stale = syncService.sync(bob, start, 100);
+        assertTrue(stale.isReset());
+        assertEquals(head, stale.getSeq());
+        assertFalse(syncService.sync(bob, head, 100).isReset());
+    }
+
+    @Test
+    void concurrentWritersGetGaplessSequences() throws Exception {
+        long start = syncService.sync(alice, null, 100).getSeq();
+        int writers = 8;
+        int perWriter = 25;
+        try (ExecutorService pool = Executors.newFixedThreadPool(writers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        choreService.createChore(chore("Chore"), householdId);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        SyncResponse response = syncService.sync(alice, start, 1000);
+        assertEquals(writers * perWriter, response.getChores().size());
+        assertEquals(start + writers * perWriter, response.getSeq());
+    }
+
+    private AuthenticatedUser member(String name) {
+        User user = userRepository.save(User.builder()
+                .name(name)
+                .email(name + "-" + UUID.randomUUID() + "@chorecast.test")
+                .passwordHash("x")
+                .householdId(householdId)
+                .build());
+        return new AuthenticatedUser(user.getId(), user.getEmail(), householdId);
+    }
+
+    private ChoreRequest chore(String name) {
+        ChoreRequest request = new ChoreRequest();
+        request.setName(name);
+        request.setFrequency(Chore.Frequency.WEEKLY);
+        request.setAssignedTo(alice.id());
+        return request;
+    }
+
+    private ExpenseRequest expense() {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDescription("Groceries");
+        request.setAmount(new BigDecimal("10.00"));
+        request.setPayerId(alice.id());
+        request.setParticipants(List.of(alice.id(), bob.id()));
+        return request;
+    }
+}
@@ -0,0 +1,72 @@
+package com.chorecast.service;
+
+import com.chorecast.model.User;
+import com.chorecast.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTest {
+    private final UUID householdId = UUID.randomUUID();
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(userRepository, 100, Duration.ofMinutes(10), meterRegistry);
+
+        alice = User.builder()
+                .id(UUID.randomUUID())
+                .name("Alice")
+                .email("alice@chorecast.test")
+                .passwordHash("hash")
+                .householdId(householdId)
+                .build();
+        when(userRepository.findById(alice.getId())).thenReturn(Optional.of(alice));
+        when(userRepository.findByEmail(alice.getEmail())).thenReturn(Optional.of(alice));
+        when(userRepository.findByHouseholdId(householdId)).thenReturn(List.of(alice));
+    }
+
+    @Test
+    void repeatedLookupsHitTheDatabaseOnce() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(alice.getId(), userCache.findByEmail(alice.getEmail()).orElseThrow().getId());
+            assertEquals(alice.getEmail(), userCache.findById(alice.getId()).orElseThrow().getEmail());
+            assertEquals(1, userCache.findByHouseholdId(householdId).size());
+        }
+
+        verify(userRepository).findByEmail(alice.getEmail());
+        // The email lookup already filled the id cache
+        verify(userRepository, never()).findById(any());
+        verify(userRepository).findByHouseholdId(householdId);
+        assertEquals(9.0, meterRegistry.get("cache.gets").tag("cache", "householdMembers").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void callersCannotModifyCachedUsers() {
+        userCache.findById(alice.getId()).orElseThrow().setHouseholdId(null);
+        userCache.findByHouseholdId(householdId).get(0).setHouseholdId(null);
+
+        assertEquals(householdId, userCache.findById(alice.getId()).orElseThrow().getHouseholdId());
+        assertEquals(householdId, userCache.findByHouseholdId(householdId).get(0).getHouseholdId());
+        assertNull(userCache.findByEmail("nobody@chorecast.test").orElse(null));
+    }
+}
@@ -117,6 +117,29 @@ const api = {
     }
   },
 
+  // Dashboard endpoint: chores, expenses, balances and household members in one request
+  dashboard: {
+    get: async () => {
+      const response = await fetch(`${API_BASE_URL}/dashboard`, {
+        headers: api.getHeaders()
+      });
+      if (!response.ok) throw new Error('Failed to fetch dashboard');
+      return response.json();
+    }
+  },
+
+  // Household change stream: EventSource cannot send the token, so it connects with a short-lived ticket
+  households: {
+    streamTicket: async () => {
+      const response = await fetch(`${API_BASE_URL}/households/stream/ticket`, {
+        method: 'POST',
+        headers: api.getHeaders()
+      });
+      if (!response.ok) throw new Error('Failed to open household stream');
+      return response.status === 204 ? null : response.json();
+    }
+  },
+
   // Users endpoint (for household members)
   users: {
     getHousehold: async () => {
@@ -155,21 +178,50 @@ function ChoreCastApp() {
     }
   }, []);
 
+  // Reload when another household member changes something
+  useEffect(() => {
+    if (!isAuthenticated) return;
+    let stream = null;
+    let retry = null;
+    let stopped = false;
+    const reload = () => loadAllData();
+    const reconnect = () => {
+      if (!stopped) retry = setTimeout(connect, 5000);
+    };
+    // Tickets expire within seconds, so every (re)connect asks for a fresh one
+    const connect = async () => {
+      try {
+        const response = await api.households.streamTicket();
+        if (stopped || !response) return;
+        stream = new EventSource(`${API_BASE_URL}/households/stream?ticket=${encodeURIComponent(response.ticket)}`);
+        ['CHORE_CREATED', 'CHORE_COMPLETED', 'CHORE_RESET', 'EXPENSE_CREATED', 'EXPENSE_SETTLED']
+          .forEach(type => stream.addEventListener(type, reload));
+        stream.onerror = () => {
+          stream.close();
+          reconnect();
+        };
+      } catch (err) {
+        reconnect();
+      }
+    };
+    connect();
+    return () => {
+      stopped = true;
+      clearTimeout(retry);
+      if (stream) stream.close();
+    };
+  }, [isAuthenticated]);
+
   // Load all data from backend
   const loadAllData = async () => {
     setLoading(true);
     try {
-      const [choresData, expensesData, balancesData, usersData] = await Promise.all([
-        api.chores.getAll(),
-        api.expenses.getAll(),
-        api.balances.getAll(),
-        api.users.getHousehold().catch(() => []) // Fallback if endpoint doesn't exist
-      ]);
+      const dashboard = await api.dashboard.get();
       
-      setChores(choresData);
-      setExpenses(expensesData);
-      setBalances(balancesData);
-      if (usersData.length > 0) setUsers(usersData);
+      setChores(dashboard.chores);
+      setExpenses(dashboard.expenses);
+      setBalances(dashboard.balances);
+      if (dashboard.users.length > 0) setUsers(dashboard.users);
       
     } catch (err) {
       showError(err.message);